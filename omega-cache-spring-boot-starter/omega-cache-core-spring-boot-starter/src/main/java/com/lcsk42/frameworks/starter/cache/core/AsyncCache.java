@@ -0,0 +1,130 @@
+package com.lcsk42.frameworks.starter.cache.core;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 非阻塞的缓存接口定义。
+ * <p>
+ * 与 {@link Cache} 的键值操作一一对应，所有方法立即返回 {@link CompletableFuture}，不占用调用线程等待网络 I/O。 WebFlux
+ * 等响应式技术栈可通过 {@code Mono.fromFuture} 直接适配。与同步实现共享键前缀与值编码，两者读写的数据互通。
+ * </p>
+ */
+public interface AsyncCache {
+
+    /**
+     * 获取默认的超时时间
+     *
+     * @return 超时时间
+     */
+    Duration getDefaultTimeOut();
+
+    /**
+     * 通过键从缓存中获取对象。
+     *
+     * @param key 缓存键
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 缓存的对象，若未找到则为 {@code null}
+     */
+    <T> CompletableFuture<T> get(@NotBlank String key, @NotNull Class<T> clazz);
+
+    /**
+     * 批量获取缓存值（单次往返）。
+     *
+     * @param keys 缓存键集合
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 只包含命中键的映射，顺序与传入键一致
+     */
+    <T> CompletableFuture<Map<String, T>> mGet(@NotNull Collection<String> keys,
+            @NotNull Class<T> clazz);
+
+    /**
+     * 使用默认过期时间存入缓存值。
+     *
+     * @param key 缓存键
+     * @param value 要缓存的值
+     * @param <T> 值的类型
+     * @return 写入完成的 Future
+     */
+    default <T> CompletableFuture<Void> put(@NotBlank String key, T value) {
+        return put(key, value, getDefaultTimeOut());
+    }
+
+    /**
+     * 以自定义过期时间存入缓存值。
+     *
+     * @param key 缓存键
+     * @param value 要缓存的值
+     * @param timeout 过期时间
+     * @param <T> 值的类型
+     * @return 写入完成的 Future
+     */
+    <T> CompletableFuture<Void> put(@NotBlank String key, T value, Duration timeout);
+
+    /**
+     * 仅当键不存在时存入缓存值。
+     *
+     * @param key 缓存键
+     * @param value 要缓存的值
+     * @param timeout 过期时间
+     * @param <T> 值的类型
+     * @return 是否写入成功
+     */
+    <T> CompletableFuture<Boolean> putIfAbsent(@NotBlank String key, T value, Duration timeout);
+
+    /**
+     * 删除指定键。
+     *
+     * @param key 缓存键
+     * @return 是否删除成功
+     */
+    CompletableFuture<Boolean> delete(@NotBlank String key);
+
+    /**
+     * 批量删除键。
+     *
+     * @param keys 缓存键集合
+     * @return 删除成功的数量
+     */
+    CompletableFuture<Long> delete(@NotNull Collection<String> keys);
+
+    /**
+     * 检查键是否存在。
+     *
+     * @param key 缓存键
+     * @return 是否存在
+     */
+    CompletableFuture<Boolean> exists(@NotBlank String key);
+
+    /**
+     * 设置键的过期时间。
+     *
+     * @param key 缓存键
+     * @param timeout 过期时间
+     * @return 是否设置成功
+     */
+    CompletableFuture<Boolean> expire(@NotBlank String key, @NotNull Duration timeout);
+
+    /**
+     * 自增键对应的数值。
+     *
+     * @param key 缓存键
+     * @return 自增后的值
+     */
+    CompletableFuture<Long> incr(@NotBlank String key);
+
+    /**
+     * 自减键对应的数值。
+     *
+     * @param key 缓存键
+     * @return 自减后的值
+     */
+    CompletableFuture<Long> decr(@NotBlank String key);
+}
@@ -2,227 +2,18 @@ package com.lcsk42.frameworks.starter.cache.core;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import org.apache.commons.lang3.ObjectUtils;
 
-import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 统一的缓存接口定义。
  * <p>
- * 该接口提供与底层缓存系统（如 Redis、Caffeine 等）交互的一致性 API。 支持基本的操作如获取、存入、删除和存在性检查。
+ * 该接口提供与底层缓存系统（如 Redis、Caffeine 等）交互的一致性 API。 在 {@link KeyValueCache} 的键值操作之外，还支持 Hash、ZSet、Set 等结构操作。
  * </p>
  */
-public interface Cache {
-
-    /**
-     * 获取默认的超时时间
-     *
-     * @return 超时时间
-     */
-    Duration getDefaultTimeOut();
-
-    /**
-     * 通过键从缓存中获取对象。
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @return 缓存的对象，若未找到则返回 {@code null}
-     */
-    default String get(@NotBlank String key) {
-        return get(key, String.class);
-    }
-
-    /**
-     * 通过键从缓存中获取对象。
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @return 缓存的对象，若未找到则返回 {@code null}
-     */
-    default String getOrDefault(@NotBlank String key, @NotNull String defaultValue) {
-        return getOrDefault(key, String.class, defaultValue);
-    }
-
-    /**
-     * 通过键从缓存中获取对象。
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @param clazz 预期的对象类型
-     * @param <T> 值的类型
-     * @return 缓存的对象，若未找到则返回 {@code null}
-     */
-    <T> T get(@NotBlank String key, @NotBlank Class<T> clazz);
-
-    /**
-     * 通过键从缓存中获取对象。
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @param clazz 预期的对象类型
-     * @param defaultValue 默认值
-     * @param <T> 值的类型
-     * @return 缓存的对象，若未找到则返回默认值
-     */
-    default <T> T getOrDefault(@NotBlank String key, @NotBlank Class<T> clazz, T defaultValue) {
-        return ObjectUtils.defaultIfNull(get(key, clazz), defaultValue);
-    }
-
-    /**
-     * 设置缓存
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @param value 要存储的对象
-     */
-    default <T> void put(@NotBlank String key, T value) {
-        putIfAbsent(key, value, getDefaultTimeOut());
-    }
-
-    /**
-     * 将值存入缓存并设置过期时间
-     *
-     * @param key 缓存键（不可为空字符串）
-     * @param value 要存储的对象
-     * @param timeout 过期时间
-     */
-    <T> void put(@NotBlank String key, T value, @NotNull Duration timeout);
-
-    /**
-     * 设置缓存
-     *
-     * <p>
-     * 如果键已存在，则不设置
-     * </p>
-     *
-     * @param key 键
-     * @param value 值
-     * @return true：设置成功；false：设置失败
-     */
-    default <T> boolean putIfAbsent(@NotBlank String key, T value) {
-        return putIfAbsent(key, value, getDefaultTimeOut());
-    }
-
-    /**
-     * 设置缓存
-     *
-     * <p>
-     * 如果键已存在，则不设置
-     * </p>
-     *
-     * @param key 键
-     * @param value 值
-     * @param timeout 过期时间
-     * @return true：设置成功；false：设置失败
-     */
-    <T> boolean putIfAbsent(@NotBlank String key, T value, @NotNull Duration timeout);
-
-    /**
-     * 设置缓存
-     * <p>
-     * 如果键不存在，则不设置
-     * </p>
-     *
-     * @param key 键
-     * @param value 值
-     * @return true：设置成功；false：设置失败
-     */
-    default <T> boolean putIfExists(@NotBlank String key, T value) {
-        return putIfExists(key, value, getDefaultTimeOut());
-    }
-
-    /**
-     * 设置缓存
-     * <p>
-     * 如果键不存在，则不设置
-     * </p>
-     *
-     * @param key 键
-     * @param value 值
-     * @param timeout 过期时间
-     * @return true：设置成功；false：设置失败
-     */
-    <T> boolean putIfExists(@NotBlank String key, T value, @NotNull Duration timeout);
-
-    /**
-     * 仅当所有指定键都不存在时才存入键值对。 用于确保跨多个键的原子唯一性。
-     *
-     * @param keys 要检查的键集合（不可为 null）
-     * @return {@code true} 如果所有键都不存在且存入操作成功， {@code false} 如果任一键已存在
-     */
-    boolean putIfAllAbsent(@NotNull Collection<String> keys);
-
-    /**
-     * 通过键从缓存中删除对象。
-     *
-     * @param key 要删除的缓存键（不可为空字符串）
-     * @return {@code true} 如果键被删除，{@code false} 否则
-     */
-    boolean delete(@NotBlank String key);
-
-    /**
-     * 从缓存中删除多个键。
-     *
-     * @param keys 要删除的键集合（不可为 null）
-     * @return 成功删除的键数量
-     */
-    long delete(@NotNull Collection<String> keys);
-
-    /**
-     * 从缓存中删除多个键。
-     *
-     * @param keys 要删除的键集合（不可为 null）
-     * @return 成功删除的键数量
-     */
-    long delete(@NotNull String... keys);
-
-    /**
-     * 递增 1
-     *
-     * @param key 键
-     * @return 当前值
-     */
-    long incr(@NotBlank String key);
-
-    /**
-     * 递减 1
-     *
-     * @param key 键
-     * @return 当前值
-     */
-    long decr(@NotBlank String key);
-
-    /**
-     * 设置缓存过期时间
-     *
-     * @param key 键
-     * @param timeout 过期时间
-     * @return true：设置成功；false：设置失败
-     */
-    boolean expire(@NotBlank String key, @NotNull Duration timeout);
-
-    /**
-     * 查询缓存剩余过期时间
-     *
-     * @param key 键
-     * @return 缓存剩余过期时间（单位：毫秒）
-     */
-    long ttl(@NotBlank String key);
-
-    /**
-     * 查询缓存剩余过期时间
-     *
-     * @param key 键
-     * @param timeUnit 时间单位
-     * @return 缓存剩余过期时间
-     */
-    long ttl(@NotBlank String key, @NotNull TimeUnit timeUnit);
-
-    /**
-     * 检查键是否存在于缓存中。
-     *
-     * @param key 要检查的键（不可为空字符串）
-     * @return {@code true} 如果键存在，{@code false} 否则
-     */
-    boolean exists(@NotBlank String key);
+public interface Cache extends KeyValueCache {
 
     /**
      * 设置 Hash 中指定字段的值
@@ -303,6 +94,15 @@ public interface Cache {
      */
     <T> boolean zAdd(@NotBlank String key, T value, double score);
 
+    /**
+     * 批量添加元素到 ZSet 中（单次 ZADD）
+     *
+     * @param key 键
+     * @param scoredValues 元素与分数的映射
+     * @return 新添加的元素个数（不含仅更新分数的元素）
+     */
+    <T> long zAddAll(@NotBlank String key, @NotNull Map<T, Double> scoredValues);
+
     /**
      * 查询 ZSet 中指定元素的分数
      *
@@ -312,6 +112,15 @@ public interface Cache {
      */
     <T> double zScore(@NotBlank String key, T value);
 
+    /**
+     * 批量查询 ZSet 中多个元素的分数（单次 ZMSCORE）
+     *
+     * @param key 键
+     * @param values 值列表
+     * @return 与传入顺序一致的分数列表，元素不存在时对应位置为 null
+     */
+    <T> List<Double> zScores(@NotBlank String key, @NotNull Collection<T> values);
+
     /**
      * 查询 ZSet 中指定元素的排名
      *
@@ -428,7 +237,33 @@ public interface Cache {
     long zCountRangeByScore(@NotBlank String key, double min, double max);
 
     /**
-     * 计算 ZSet 中多个元素的分数之和
+     * 根据排名范围查询 ZSet 中的元素及其分数，按分数从低到高排列
+     *
+     * @param key 键
+     * @param start 起始排名（包含，从 0 开始）
+     * @param end 结束排名（包含，-1 表示最后一个）
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 保持排名顺序的元素与分数映射
+     */
+    <T> Map<T, Double> zRangeWithScores(@NotBlank String key, long start, long end,
+            @NotNull Class<T> clazz);
+
+    /**
+     * 根据排名范围查询 ZSet 中的元素及其分数，按分数从高到低排列，适用于排行榜
+     *
+     * @param key 键
+     * @param start 起始排名（包含，从 0 开始）
+     * @param end 结束排名（包含，-1 表示最后一个）
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 保持排名顺序的元素与分数映射
+     */
+    <T> Map<T, Double> zRevRangeWithScores(@NotBlank String key, long start, long end,
+            @NotNull Class<T> clazz);
+
+    /**
+     * 计算 ZSet 中多个元素的分数之和，不存在的元素按 0 计算
      *
      * @param key 键
      * @param values 值列表
@@ -505,12 +340,4 @@ public interface Cache {
      * @return 集合元素数量
      */
     long sSize(@NotBlank String key);
-
-
-    /**
-     * 获取原生缓存实现实例（如 RedisTemplate、CaffeineCache）。
-     *
-     * @return 底层缓存组件
-     */
-    Object getInstance();
 }
@@ -0,0 +1,260 @@
+package com.lcsk42.frameworks.starter.cache.core;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 键值缓存接口定义。
+ * <p>
+ * 仅包含字符串键值的读写、过期与计数操作，适用于不支持 Hash、ZSet、Set 等结构的缓存实现（如堆外本地缓存）。
+ * </p>
+ */
+public interface KeyValueCache {
+
+    /**
+     * 获取默认的超时时间
+     *
+     * @return 超时时间
+     */
+    Duration getDefaultTimeOut();
+
+    /**
+     * 通过键从缓存中获取对象。
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @return 缓存的对象，若未找到则返回 {@code null}
+     */
+    default String get(@NotBlank String key) {
+        return get(key, String.class);
+    }
+
+    /**
+     * 通过键从缓存中获取对象。
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @return 缓存的对象，若未找到则返回 {@code null}
+     */
+    default String getOrDefault(@NotBlank String key, @NotNull String defaultValue) {
+        return getOrDefault(key, String.class, defaultValue);
+    }
+
+    /**
+     * 通过键从缓存中获取对象。
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 缓存的对象，若未找到则返回 {@code null}
+     */
+    <T> T get(@NotBlank String key, @NotBlank Class<T> clazz);
+
+    /**
+     * 通过键从缓存中获取对象。
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @param clazz 预期的对象类型
+     * @param defaultValue 默认值
+     * @param <T> 值的类型
+     * @return 缓存的对象，若未找到则返回默认值
+     */
+    default <T> T getOrDefault(@NotBlank String key, @NotBlank Class<T> clazz, T defaultValue) {
+        return ObjectUtils.defaultIfNull(get(key, clazz), defaultValue);
+    }
+
+    /**
+     * 批量获取缓存对象（单次网络往返）。
+     *
+     * @param keys 缓存键集合（不可为 null）
+     * @param clazz 预期的对象类型
+     * @param <T> 值的类型
+     * @return 命中的键值对，按传入键的顺序排列；未命中的键不包含在结果中
+     */
+    <T> Map<String, T> mGet(@NotNull Collection<String> keys, @NotNull Class<T> clazz);
+
+    /**
+     * 设置缓存
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @param value 要存储的对象
+     */
+    default <T> void put(@NotBlank String key, T value) {
+        putIfAbsent(key, value, getDefaultTimeOut());
+    }
+
+    /**
+     * 将值存入缓存并设置过期时间
+     *
+     * @param key 缓存键（不可为空字符串）
+     * @param value 要存储的对象
+     * @param timeout 过期时间
+     */
+    <T> void put(@NotBlank String key, T value, @NotNull Duration timeout);
+
+    /**
+     * 批量设置缓存，使用默认过期时间
+     *
+     * @param values 要存储的键值对（不可为 null）
+     */
+    default <T> void mPut(@NotNull Map<String, T> values) {
+        mPut(values, getDefaultTimeOut());
+    }
+
+    /**
+     * 批量设置缓存并设置过期时间（单次管道往返）
+     *
+     * @param values 要存储的键值对（不可为 null）
+     * @param timeout 过期时间
+     */
+    <T> void mPut(@NotNull Map<String, T> values, Duration timeout);
+
+    /**
+     * 设置缓存
+     *
+     * <p>
+     * 如果键已存在，则不设置
+     * </p>
+     *
+     * @param key 键
+     * @param value 值
+     * @return true：设置成功；false：设置失败
+     */
+    default <T> boolean putIfAbsent(@NotBlank String key, T value) {
+        return putIfAbsent(key, value, getDefaultTimeOut());
+    }
+
+    /**
+     * 设置缓存
+     *
+     * <p>
+     * 如果键已存在，则不设置
+     * </p>
+     *
+     * @param key 键
+     * @param value 值
+     * @param timeout 过期时间
+     * @return true：设置成功；false：设置失败
+     */
+    <T> boolean putIfAbsent(@NotBlank String key, T value, @NotNull Duration timeout);
+
+    /**
+     * 设置缓存
+     * <p>
+     * 如果键不存在，则不设置
+     * </p>
+     *
+     * @param key 键
+     * @param value 值
+     * @return true：设置成功；false：设置失败
+     */
+    default <T> boolean putIfExists(@NotBlank String key, T value) {
+        return putIfExists(key, value, getDefaultTimeOut());
+    }
+
+    /**
+     * 设置缓存
+     * <p>
+     * 如果键不存在，则不设置
+     * </p>
+     *
+     * @param key 键
+     * @param value 值
+     * @param timeout 过期时间
+     * @return true：设置成功；false：设置失败
+     */
+    <T> boolean putIfExists(@NotBlank String key, T value, @NotNull Duration timeout);
+
+    /**
+     * 仅当所有指定键都不存在时才存入键值对。 用于确保跨多个键的原子唯一性。
+     *
+     * @param keys 要检查的键集合（不可为 null）
+     * @return {@code true} 如果所有键都不存在且存入操作成功， {@code false} 如果任一键已存在
+     */
+    boolean putIfAllAbsent(@NotNull Collection<String> keys);
+
+    /**
+     * 通过键从缓存中删除对象。
+     *
+     * @param key 要删除的缓存键（不可为空字符串）
+     * @return {@code true} 如果键被删除，{@code false} 否则
+     */
+    boolean delete(@NotBlank String key);
+
+    /**
+     * 从缓存中删除多个键。
+     *
+     * @param keys 要删除的键集合（不可为 null）
+     * @return 成功删除的键数量
+     */
+    long delete(@NotNull Collection<String> keys);
+
+    /**
+     * 从缓存中删除多个键。
+     *
+     * @param keys 要删除的键集合（不可为 null）
+     * @return 成功删除的键数量
+     */
+    long delete(@NotNull String... keys);
+
+    /**
+     * 递增 1
+     *
+     * @param key 键
+     * @return 当前值
+     */
+    long incr(@NotBlank String key);
+
+    /**
+     * 递减 1
+     *
+     * @param key 键
+     * @return 当前值
+     */
+    long decr(@NotBlank String key);
+
+    /**
+     * 设置缓存过期时间
+     *
+     * @param key 键
+     * @param timeout 过期时间
+     * @return true：设置成功；false：设置失败
+     */
+    boolean expire(@NotBlank String key, @NotNull Duration timeout);
+
+    /**
+     * 查询缓存剩余过期时间
+     *
+     * @param key 键
+     * @return 缓存剩余过期时间（单位：毫秒）
+     */
+    long ttl(@NotBlank String key);
+
+    /**
+     * 查询缓存剩余过期时间
+     *
+     * @param key 键
+     * @param timeUnit 时间单位
+     * @return 缓存剩余过期时间
+     */
+    long ttl(@NotBlank String key, @NotNull TimeUnit timeUnit);
+
+    /**
+     * 检查键是否存在于缓存中。
+     *
+     * @param key 要检查的键（不可为空字符串）
+     * @return {@code true} 如果键存在，{@code false} 否则
+     */
+    boolean exists(@NotBlank String key);
+
+    /**
+     * 获取原生缓存实现实例（如 RedisTemplate、CaffeineCache）。
+     *
+     * @return 底层缓存组件
+     */
+    Object getInstance();
+}
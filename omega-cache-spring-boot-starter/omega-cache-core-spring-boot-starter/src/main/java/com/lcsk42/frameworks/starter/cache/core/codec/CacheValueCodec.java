@@ -0,0 +1,34 @@
+package com.lcsk42.frameworks.starter.cache.core.codec;
+
+/**
+ * 缓存值编解码器 SPI
+ * <p>
+ * 负责缓存值与 Redis 中字节数组之间的相互转换。实现需保证线程安全，并对 {@code byte[]} 值原样透传，
+ * 以便调用方存取二进制数据时不经过字符串中转。
+ * </p>
+ */
+public interface CacheValueCodec {
+
+    /**
+     * 编解码器名称，用于按配置选择编解码器
+     */
+    String getName();
+
+    /**
+     * 将缓存值编码为字节数组
+     *
+     * @param value 缓存值，不为 null
+     * @return 编码后的字节数组
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 将字节数组解码为指定类型的缓存值
+     *
+     * @param bytes 编码后的字节数组，不为 null
+     * @param clazz 目标类型
+     * @param <T> 目标类型
+     * @return 解码后的缓存值
+     */
+    <T> T decode(byte[] bytes, Class<T> clazz);
+}
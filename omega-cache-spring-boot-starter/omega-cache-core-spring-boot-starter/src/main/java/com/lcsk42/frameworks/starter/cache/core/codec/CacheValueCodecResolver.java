@@ -0,0 +1,45 @@
+package com.lcsk42.frameworks.starter.cache.core.codec;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按键前缀选择缓存值编解码器，多个前缀同时匹配时取最长者，未匹配时使用默认编解码器
+ */
+public class CacheValueCodecResolver {
+
+    private final CacheValueCodec defaultCodec;
+
+    private final List<Map.Entry<String, CacheValueCodec>> prefixCodecs;
+
+    public CacheValueCodecResolver(CacheValueCodec defaultCodec,
+            Map<String, CacheValueCodec> prefixCodecs) {
+        this.defaultCodec = defaultCodec;
+        this.prefixCodecs = prefixCodecs.entrySet().stream()
+                .sorted(Comparator.comparingInt(
+                        (Map.Entry<String, CacheValueCodec> each) -> each.getKey().length())
+                        .reversed())
+                .map(each -> Map.entry(each.getKey(), each.getValue()))
+                .toList();
+    }
+
+    /**
+     * 获取键对应的编解码器
+     *
+     * @param key 缓存键（不含全局前缀）
+     * @return 编解码器
+     */
+    public CacheValueCodec resolve(String key) {
+        for (Map.Entry<String, CacheValueCodec> each : prefixCodecs) {
+            if (key.startsWith(each.getKey())) {
+                return each.getValue();
+            }
+        }
+        return defaultCodec;
+    }
+
+    public CacheValueCodec getDefaultCodec() {
+        return defaultCodec;
+    }
+}
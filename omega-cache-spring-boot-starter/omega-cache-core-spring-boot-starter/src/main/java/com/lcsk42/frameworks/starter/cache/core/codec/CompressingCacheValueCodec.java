@@ -0,0 +1,131 @@
+package com.lcsk42.frameworks.starter.cache.core.codec;
+
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 按大小阈值压缩的编解码器包装
+ * <p>
+ * 委托编码结果超过阈值时使用 Deflate 压缩，压缩数据带有 5 字节头部：4 字节魔数（{@code 0xFF 'O' 'C'} 加格式版本）
+ * 与 1 字节压缩方式。
+ * 未压缩的数据原样写入，保持空值占位符、INCR 等依赖原始字节的读写方式不变；仅当其恰好以魔数开头时才加上表示未压缩的头部，
+ * 因此任意原始字节数组都不会被误判为压缩数据。没有头部的数据（包括开启压缩前写入的历史数据）直接交给委托解码。
+ * </p>
+ */
+@RequiredArgsConstructor
+public class CompressingCacheValueCodec implements CacheValueCodec {
+
+    private static final byte[] MAGIC = {(byte) 0xFF, 'O', 'C', 1};
+
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    private static final byte FORMAT_RAW = 0;
+
+    private static final byte FORMAT_DEFLATE = 1;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final CacheValueCodec delegate;
+
+    /**
+     * 触发压缩的最小字节数
+     */
+    private final int threshold;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        byte[] bytes = delegate.encode(value);
+        if (bytes.length >= threshold) {
+            byte[] compressed = deflate(bytes);
+            // 压缩收益不足时保留原始数据，省去读取时的解压开销
+            if (compressed.length < bytes.length) {
+                return compressed;
+            }
+        }
+        if (!startsWithMagic(bytes)) {
+            return bytes;
+        }
+        byte[] framed = new byte[bytes.length + HEADER_LENGTH];
+        writeHeader(framed, FORMAT_RAW);
+        System.arraycopy(bytes, 0, framed, HEADER_LENGTH, bytes.length);
+        return framed;
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> clazz) {
+        if (!hasHeader(bytes)) {
+            return delegate.decode(bytes, clazz);
+        }
+        return switch (bytes[MAGIC.length]) {
+            case FORMAT_RAW -> delegate.decode(
+                    Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length), clazz);
+            case FORMAT_DEFLATE -> delegate.decode(inflate(bytes), clazz);
+            default -> throw new ServiceException(
+                    "Unknown cache value compression format: " + bytes[MAGIC.length]);
+        };
+    }
+
+    private static boolean hasHeader(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH && startsWithMagic(bytes);
+    }
+
+    private static boolean startsWithMagic(byte[] bytes) {
+        return bytes.length >= MAGIC.length
+                && Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    private static void writeHeader(byte[] target, byte format) {
+        System.arraycopy(MAGIC, 0, target, 0, MAGIC.length);
+        target[MAGIC.length] = format;
+    }
+
+    private byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 1);
+            outputStream.write(MAGIC, 0, MAGIC.length);
+            outputStream.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ServiceException("Truncated compressed cache value.");
+                }
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException e) {
+            throw new ServiceException("Invalid compressed cache value: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.lcsk42.frameworks.starter.cache.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.lcsk42.frameworks.starter.json.core.exception.JSONException;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基于 Jackson 的缓存值编解码器，支持 JSON 以及 Smile / CBOR 二进制格式
+ * <p>
+ * 字符串按 UTF-8 原样存储、{@code byte[]} 原样透传，与原有 JSON 字符串的存储格式保持兼容。
+ * 二进制格式复用应用 {@link ObjectMapper} 的模块与配置，仅替换底层数据格式。
+ * </p>
+ */
+@RequiredArgsConstructor
+public class JacksonCacheValueCodec implements CacheValueCodec {
+
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+    public static final String CBOR = "cbor";
+
+    private final String name;
+
+    private final ObjectMapper objectMapper;
+
+    public static JacksonCacheValueCodec json(ObjectMapper objectMapper) {
+        return new JacksonCacheValueCodec(JSON, objectMapper);
+    }
+
+    public static JacksonCacheValueCodec smile(ObjectMapper objectMapper) {
+        return new JacksonCacheValueCodec(SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    public static JacksonCacheValueCodec cbor(ObjectMapper objectMapper) {
+        return new JacksonCacheValueCodec(CBOR, objectMapper.copyWith(new CBORFactory()));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (value instanceof String string) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new JSONException(e.toString());
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> clazz) {
+        if (byte[].class.equals(clazz)) {
+            return clazz.cast(bytes);
+        }
+        if (String.class.equals(clazz)) {
+            return clazz.cast(new String(bytes, StandardCharsets.UTF_8));
+        }
+        try {
+            return objectMapper.readValue(bytes, clazz);
+        } catch (IOException e) {
+            throw new JSONException(e.toString());
+        }
+    }
+}
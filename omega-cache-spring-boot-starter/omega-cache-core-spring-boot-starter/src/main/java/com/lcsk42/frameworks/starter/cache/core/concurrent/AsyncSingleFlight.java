@@ -0,0 +1,56 @@
+package com.lcsk42.frameworks.starter.cache.core.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 非阻塞的进程内请求合并
+ * <p>
+ * 与 {@link SingleFlight} 语义相同，但不阻塞调用线程：同一键的并发调用直接共享 leader 返回的 {@link CompletableFuture}，
+ * 任务完成（无论成功或失败）后移除，后续调用重新执行。
+ * </p>
+ */
+public class AsyncSingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightCalls =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 执行异步任务，同一键的并发调用只会执行一次
+     *
+     * @param key 合并键
+     * @param supplier 启动实际任务的函数
+     * @param <T> 结果类型
+     * @return 共享的任务结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> supplier) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            return (CompletableFuture<T>) inFlightCall;
+        }
+        try {
+            supplier.get().whenComplete((result, ex) -> {
+                inFlightCalls.remove(key, call);
+                if (ex != null) {
+                    call.completeExceptionally(ex);
+                } else {
+                    call.complete(result);
+                }
+            });
+        } catch (Throwable ex) {
+            inFlightCalls.remove(key, call);
+            call.completeExceptionally(ex);
+        }
+        return (CompletableFuture<T>) call;
+    }
+
+    /**
+     * 当前正在执行中的键数量
+     */
+    public int inFlightCount() {
+        return inFlightCalls.size();
+    }
+}
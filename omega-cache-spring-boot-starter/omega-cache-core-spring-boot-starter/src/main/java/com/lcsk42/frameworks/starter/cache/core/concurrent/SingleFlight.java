@@ -0,0 +1,77 @@
+package com.lcsk42.frameworks.starter.cache.core.concurrent;
+
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 进程内请求合并（Single Flight）
+ * <p>
+ * 同一 JVM 内针对同一个键的并发调用共享同一个执行中的 {@link CompletableFuture}：只有第一个到达的线程（leader）真正执行任务，
+ * 其余线程（follower）等待 leader 的结果。follower 等待超时后会自行执行任务，避免 leader 卡死时所有请求一起挂起。
+ * </p>
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightCalls =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 执行任务，同一键的并发调用只会执行一次
+     *
+     * @param key 合并键
+     * @param supplier 实际执行的任务
+     * @param waitTimeout follower 等待 leader 结果的最长时间
+     * @param <T> 结果类型
+     * @return 任务结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> supplier, Duration waitTimeout) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall == null) {
+            try {
+                T result = supplier.get();
+                call.complete(result);
+                return result;
+            } catch (Throwable ex) {
+                call.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                inFlightCalls.remove(key, call);
+            }
+        }
+        try {
+            return (T) inFlightCall.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            return supplier.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ServiceException(cause.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for in-flight call: " + key);
+        }
+    }
+
+    /**
+     * 当前正在执行中的键数量
+     *
+     * @return 键数量
+     */
+    public int inFlightCount() {
+        return inFlightCalls.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.lcsk42.frameworks.starter.cache.core.function;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link CacheLoader} 的异步版本，用于非阻塞技术栈在缓存未命中时加载数据。
+ *
+ * @param <T> 要加载到缓存中的值的类型
+ */
+@FunctionalInterface
+public interface AsyncCacheLoader<T> {
+
+    /**
+     * 异步加载要缓存的值。
+     *
+     * @return 完成时携带要缓存的值的 Future
+     */
+    CompletableFuture<T> load();
+}
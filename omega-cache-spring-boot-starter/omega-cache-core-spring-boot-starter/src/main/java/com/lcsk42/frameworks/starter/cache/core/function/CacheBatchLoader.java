@@ -0,0 +1,25 @@
+package com.lcsk42.frameworks.starter.cache.core.function;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 批量缓存加载器。
+ *
+ * <p>
+ * 在批量读取缓存出现未命中时，一次性加载所有缺失键对应的值，避免逐个键回源。
+ * </p>
+ *
+ * @param <T> 要加载到缓存中的值的类型
+ */
+@FunctionalInterface
+public interface CacheBatchLoader<T> {
+
+    /**
+     * 加载给定键对应的值。
+     *
+     * @param keys 缓存未命中的键集合
+     * @return 键值对，不存在的键可以不包含在结果中
+     */
+    Map<String, T> load(Collection<String> keys);
+}
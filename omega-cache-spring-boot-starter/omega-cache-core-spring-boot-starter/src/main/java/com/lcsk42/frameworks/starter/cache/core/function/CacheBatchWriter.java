@@ -0,0 +1,23 @@
+package com.lcsk42.frameworks.starter.cache.core.function;
+
+import java.util.Map;
+
+/**
+ * 批量回写器。
+ *
+ * <p>
+ * 用于写后回写（write-behind）场景：缓存中已写入的值在合并后按批次交给该回写器持久化，例如合并为一条批量 UPDATE 语句。
+ * </p>
+ *
+ * @param <T> 缓存值的类型
+ */
+@FunctionalInterface
+public interface CacheBatchWriter<T> {
+
+    /**
+     * 持久化一批键值对，同一键只保留最后一次写入的值。
+     *
+     * @param values 待持久化的键值对
+     */
+    void write(Map<String, T> values);
+}
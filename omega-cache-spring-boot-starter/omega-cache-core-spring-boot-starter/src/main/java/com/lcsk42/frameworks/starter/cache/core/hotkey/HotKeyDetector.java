@@ -0,0 +1,203 @@
+package com.lcsk42.frameworks.starter.cache.core.hotkey;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 基于采样与衰减 Count-Min Sketch 的热点键探测器
+ * <p>
+ * 每次访问按采样率决定是否计数，计数写入固定大小的 Count-Min Sketch，估算值按采样率放大后与阈值比较。 每经过一个衰减周期，所有计数减半，
+ * 使估算值反映的是近期访问频率而非累计次数。超过阈值的键进入热点列表，列表容量有限，满时替换估算值最小的键。
+ * </p>
+ * <p>
+ * 衰减（遍历整个 sketch）与热点列表裁剪不在调用线程执行：调用线程只判断是否需要维护，并通过 CAS 保证同一时刻只向后台执行器提交一个维护任务。
+ * 列表已满时，新键的估算值须高于上次裁剪后的最小估算值才会加入，裁剪完成前列表可能短暂超出容量。
+ * </p>
+ */
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final double sampleRate;
+
+    private final long threshold;
+
+    private final long decayIntervalNanos;
+
+    private final int maxHotKeys;
+
+    private final int widthMask;
+
+    private final AtomicLongArray table;
+
+    private final Executor maintenanceExecutor;
+
+    private final AtomicBoolean maintenanceScheduled = new AtomicBoolean();
+
+    private volatile long lastDecayNanos = System.nanoTime();
+
+    /**
+     * 列表已满时新键的准入下限，即上次裁剪后保留的最小估算值
+     */
+    private volatile long admissionFloor;
+
+    private final ConcurrentHashMap<String, Long> hotKeys = new ConcurrentHashMap<>();
+
+    /**
+     * @param sampleRate 采样率，取值 (0, 1]
+     * @param threshold 判定为热点的衰减后估算访问次数
+     * @param decayInterval 计数减半的周期
+     * @param maxHotKeys 热点列表容量
+     * @param width 每行计数器数量，向上取整为 2 的幂
+     */
+    public HotKeyDetector(double sampleRate, long threshold, Duration decayInterval,
+            int maxHotKeys, int width) {
+        this(sampleRate, threshold, decayInterval, maxHotKeys, width, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param sampleRate 采样率，取值 (0, 1]
+     * @param threshold 判定为热点的衰减后估算访问次数
+     * @param decayInterval 计数减半的周期
+     * @param maxHotKeys 热点列表容量
+     * @param width 每行计数器数量，向上取整为 2 的幂
+     * @param maintenanceExecutor 执行衰减与裁剪的后台执行器
+     */
+    public HotKeyDetector(double sampleRate, long threshold, Duration decayInterval,
+            int maxHotKeys, int width, Executor maintenanceExecutor) {
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.sampleRate = sampleRate;
+        this.threshold = threshold;
+        this.decayIntervalNanos = decayInterval.toNanos();
+        this.maxHotKeys = maxHotKeys;
+        int tableWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.widthMask = tableWidth - 1;
+        this.table = new AtomicLongArray(DEPTH * tableWidth);
+    }
+
+    /**
+     * 记录一次访问
+     *
+     * @param key 缓存键
+     * @return 该键是否在本次访问中新晋为热点
+     */
+    public boolean record(String key) {
+        if (System.nanoTime() - lastDecayNanos >= decayIntervalNanos) {
+            scheduleMaintenance();
+        }
+        if (sampleRate < 1.0D && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        long hash = key.hashCode();
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            min = Math.min(min, table.incrementAndGet(index(hash, i)));
+        }
+        long estimate = (long) (min / sampleRate);
+        if (estimate < threshold) {
+            return false;
+        }
+        if (hotKeys.size() >= maxHotKeys && estimate <= admissionFloor
+                && !hotKeys.containsKey(key)) {
+            return false;
+        }
+        if (hotKeys.put(key, estimate) != null) {
+            return false;
+        }
+        if (hotKeys.size() > maxHotKeys) {
+            scheduleMaintenance();
+        }
+        return true;
+    }
+
+    /**
+     * 判断键当前是否为热点
+     */
+    public boolean isHot(String key) {
+        return hotKeys.containsKey(key);
+    }
+
+    /**
+     * 获取当前热点键及其估算访问次数，按估算值从高到低排列
+     */
+    public Map<String, Long> hotKeys() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        hotKeys.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(each -> result.put(each.getKey(), each.getValue()));
+        return result;
+    }
+
+    private int index(long hash, int row) {
+        long mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        mixed ^= mixed >>> 31;
+        return row * (widthMask + 1) + (int) (mixed & widthMask);
+    }
+
+    private void scheduleMaintenance() {
+        if (!maintenanceScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            maintenanceExecutor.execute(this::maintain);
+        } catch (RejectedExecutionException ex) {
+            // 执行器繁忙，由后续访问重新提交
+            maintenanceScheduled.set(false);
+        }
+    }
+
+    private void maintain() {
+        try {
+            long now = System.nanoTime();
+            if (now - lastDecayNanos >= decayIntervalNanos) {
+                lastDecayNanos = now;
+                decay();
+            }
+            trimHotKeys();
+        } finally {
+            maintenanceScheduled.set(false);
+        }
+    }
+
+    /**
+     * 热点列表超出容量时一次性移除估算值最小的若干个键，并更新准入下限
+     */
+    private void trimHotKeys() {
+        if (hotKeys.size() < maxHotKeys) {
+            admissionFloor = 0L;
+            return;
+        }
+        List<Map.Entry<String, Long>> entries = hotKeys.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .toList();
+        int excess = Math.max(entries.size() - maxHotKeys, 0);
+        for (int i = 0; i < excess; i++) {
+            hotKeys.remove(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        admissionFloor = excess < entries.size() ? entries.get(excess).getValue() : 0L;
+    }
+
+    private void decay() {
+        for (int i = 0; i < table.length(); i++) {
+            long value = table.get(i);
+            if (value > 0) {
+                table.addAndGet(i, -(value >> 1));
+            }
+        }
+        // 热点列表同步衰减，降到阈值一半以下才降级，避免在阈值附近反复升降
+        hotKeys.replaceAll((key, estimate) -> estimate >> 1);
+        hotKeys.values().removeIf(estimate -> estimate < threshold >> 1);
+    }
+}
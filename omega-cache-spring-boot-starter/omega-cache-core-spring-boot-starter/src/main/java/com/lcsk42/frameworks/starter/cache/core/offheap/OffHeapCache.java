@@ -0,0 +1,461 @@
+package com.lcsk42.frameworks.starter.cache.core.offheap;
+
+import com.lcsk42.frameworks.starter.cache.core.KeyValueCache;
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodec;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 堆外本地缓存
+ * <p>
+ * 值经 {@link CacheValueCodec} 序列化后存放在直接内存中，不参与 GC 扫描与复制，适合在进程内常驻 GB 级的只读或少写的查找表。
+ * 内存按键的哈希划分为若干段，每段独占一把锁与一块直接内存，并按固定大小的块分配空间（值跨越多个块时以链表串联）；
+ * 段内按 LRU 淘汰，空间不足时淘汰最久未访问的键，过期的键在访问时惰性删除。
+ * </p>
+ * <p>
+ * 键与块位置索引保存在堆内，单个值不能超过一个段的容量。只实现 {@link KeyValueCache} 定义的键值操作，不支持 Hash、ZSet、Set 等结构。
+ * </p>
+ */
+public class OffHeapCache implements KeyValueCache, AutoCloseable {
+
+    private static final long NO_EXPIRE = Long.MAX_VALUE;
+
+    private static final int NO_BLOCK = -1;
+
+    /**
+     * 与 Redis 一致：键不存在时返回 -2，键未设置过期时间时返回 -1
+     */
+    private static final long TTL_KEY_ABSENT = -2L;
+    private static final long TTL_NO_EXPIRE = -1L;
+
+    private final String name;
+    private final CacheValueCodec codec;
+    private final Duration defaultTimeout;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int blockSize;
+    private final long capacityBytes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param name 缓存名称，用于日志与指标
+     * @param codec 值编解码器
+     * @param defaultTimeout 默认过期时间，为 null 或非正数时不过期
+     * @param capacityBytes 堆外内存总容量（字节）
+     * @param segmentCount 段数量，向上取整为 2 的幂
+     * @param blockSize 块大小（字节）
+     */
+    public OffHeapCache(String name,
+            CacheValueCodec codec,
+            Duration defaultTimeout,
+            long capacityBytes,
+            int segmentCount,
+            int blockSize) {
+        if (segmentCount <= 0 || blockSize <= 0) {
+            throw new IllegalArgumentException("Segment count and block size must be positive");
+        }
+        int segmentSize = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(segmentCount - 1));
+        long blocksPerSegment = capacityBytes / segmentSize / blockSize;
+        if (blocksPerSegment <= 0 || blocksPerSegment * blockSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Off-heap cache '" + name + "' segment capacity must be between "
+                            + blockSize + " bytes and 2 GB, adjust capacity or segment count");
+        }
+        this.name = name;
+        this.codec = codec;
+        this.defaultTimeout = defaultTimeout;
+        this.blockSize = blockSize;
+        this.segmentMask = segmentSize - 1;
+        this.segments = new Segment[segmentSize];
+        for (int i = 0; i < segmentSize; i++) {
+            segments[i] = new Segment((int) blocksPerSegment, blockSize, evictionCount);
+        }
+        this.capacityBytes = blocksPerSegment * blockSize * segmentSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Duration getDefaultTimeOut() {
+        return defaultTimeout;
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        byte[] bytes = locked(key, segment -> {
+            Entry entry = segment.live(key, System.nanoTime());
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return segment.read(entry);
+        });
+        return bytes == null ? null : codec.decode(bytes, clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> mGet(Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new LinkedHashMap<>(keys.size());
+        for (String key : keys) {
+            T value = get(key, clazz);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> void put(String key, T value, Duration timeout) {
+        byte[] bytes = codec.encode(value);
+        long expireAt = expireAt(timeout);
+        locked(key, segment -> segment.write(key, bytes, expireAt));
+    }
+
+    @Override
+    public <T> void mPut(Map<String, T> values, Duration timeout) {
+        values.forEach((key, value) -> put(key, value, timeout));
+    }
+
+    @Override
+    public <T> boolean putIfAbsent(String key, T value, Duration timeout) {
+        byte[] bytes = codec.encode(value);
+        long expireAt = expireAt(timeout);
+        return locked(key, segment -> segment.live(key, System.nanoTime()) == null
+                && segment.write(key, bytes, expireAt));
+    }
+
+    @Override
+    public <T> boolean putIfExists(String key, T value, Duration timeout) {
+        byte[] bytes = codec.encode(value);
+        long expireAt = expireAt(timeout);
+        return locked(key, segment -> segment.live(key, System.nanoTime()) != null
+                && segment.write(key, bytes, expireAt));
+    }
+
+    /**
+     * 按段序号依次加锁后检查并写入，保证与其他操作之间的原子性
+     */
+    @Override
+    public boolean putIfAllAbsent(Collection<String> keys) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        keys.forEach(key -> indexes.add(segmentIndex(key)));
+        indexes.forEach(index -> segments[index].lock.lock());
+        try {
+            long now = System.nanoTime();
+            for (String key : keys) {
+                if (segmentFor(key).live(key, now) != null) {
+                    return false;
+                }
+            }
+            byte[] empty = new byte[0];
+            long expireAt = expireAt(defaultTimeout);
+            keys.forEach(key -> segmentFor(key).write(key, empty, expireAt));
+            return true;
+        } finally {
+            indexes.descendingSet().forEach(index -> segments[index].lock.unlock());
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return locked(key, segment -> segment.remove(key));
+    }
+
+    @Override
+    public long delete(Collection<String> keys) {
+        return keys.stream().filter(this::delete).count();
+    }
+
+    @Override
+    public long delete(String... keys) {
+        return delete(List.of(keys));
+    }
+
+    @Override
+    public long incr(String key) {
+        return incrementBy(key, 1L);
+    }
+
+    @Override
+    public long decr(String key) {
+        return incrementBy(key, -1L);
+    }
+
+    @Override
+    public boolean expire(String key, Duration timeout) {
+        long expireAt = expireAt(timeout);
+        return locked(key, segment -> {
+            Entry entry = segment.live(key, System.nanoTime());
+            if (entry == null) {
+                return false;
+            }
+            segment.entries.put(key, entry.withExpireAt(expireAt));
+            return true;
+        });
+    }
+
+    @Override
+    public long ttl(String key) {
+        return ttl(key, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long ttl(String key, TimeUnit timeUnit) {
+        return locked(key, segment -> {
+            long now = System.nanoTime();
+            Entry entry = segment.live(key, now);
+            if (entry == null) {
+                return TTL_KEY_ABSENT;
+            }
+            if (entry.expireAt() == NO_EXPIRE) {
+                return TTL_NO_EXPIRE;
+            }
+            return timeUnit.convert(entry.expireAt() - now, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return locked(key, segment -> segment.live(key, System.nanoTime()) != null);
+    }
+
+    @Override
+    public Object getInstance() {
+        return this;
+    }
+
+    /**
+     * 当前统计信息，读取时不加锁，各项数值为近似值
+     */
+    public OffHeapCacheStatistics getStatistics() {
+        long size = 0L;
+        long usedBytes = 0L;
+        for (Segment segment : segments) {
+            size += segment.entryCount;
+            usedBytes += (long) (segment.nextBlock.length - segment.freeBlocks) * blockSize;
+        }
+        return new OffHeapCacheStatistics(name, size, hitCount.sum(), missCount.sum(),
+                evictionCount.sum(), usedBytes, capacityBytes);
+    }
+
+    /**
+     * 清空所有键；直接内存随缓存对象被回收时释放
+     */
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.reset();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 计数值按字符串存储，与分布式缓存的 INCR 语义一致：键不存在时从 0 开始且不设置过期时间，已有键保留原过期时间
+     */
+    private long incrementBy(String key, long delta) {
+        return locked(key, segment -> {
+            Entry entry = segment.live(key, System.nanoTime());
+            long current = 0L;
+            if (entry != null) {
+                String value = codec.decode(segment.read(entry), String.class);
+                try {
+                    current = Long.parseLong(value);
+                } catch (NumberFormatException ex) {
+                    throw new IllegalStateException(
+                            "Value of key '" + key + "' is not an integer", ex);
+                }
+            }
+            long updated = current + delta;
+            segment.write(key, codec.encode(String.valueOf(updated)),
+                    entry == null ? NO_EXPIRE : entry.expireAt());
+            return updated;
+        });
+    }
+
+    private <R> R locked(String key, Function<Segment, R> action) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            return action.apply(segment);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[segmentIndex(key)];
+    }
+
+    private int segmentIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & segmentMask;
+    }
+
+    private long expireAt(Duration timeout) {
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            return NO_EXPIRE;
+        }
+        return System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * 键的索引项：首块位置、值长度与过期时刻（{@link System#nanoTime()}）
+     */
+    private record Entry(int firstBlock, int length, long expireAt) {
+
+        private Entry withExpireAt(long expireAt) {
+            return new Entry(firstBlock, length, expireAt);
+        }
+    }
+
+    /**
+     * 缓存段，所有方法需在持有 {@link #lock} 时调用（统计字段除外）
+     */
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ByteBuffer memory;
+        private final int blockSize;
+
+        /**
+         * 块链表：已分配的块指向同一个值的下一块，空闲块指向下一个空闲块
+         */
+        private final int[] nextBlock;
+
+        /**
+         * 按访问顺序排列，头部为最久未访问的键
+         */
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+        private final LongAdder evictionCount;
+
+        private int freeHead;
+        private volatile int freeBlocks;
+        private volatile int entryCount;
+
+        private Segment(int blockCount, int blockSize, LongAdder evictionCount) {
+            this.memory = ByteBuffer.allocateDirect(blockCount * blockSize);
+            this.blockSize = blockSize;
+            this.nextBlock = new int[blockCount];
+            this.evictionCount = evictionCount;
+            reset();
+        }
+
+        private void reset() {
+            entries.clear();
+            for (int i = 0; i < nextBlock.length; i++) {
+                nextBlock[i] = i + 1 < nextBlock.length ? i + 1 : NO_BLOCK;
+            }
+            freeHead = 0;
+            freeBlocks = nextBlock.length;
+            entryCount = 0;
+        }
+
+        /**
+         * 获取未过期的索引项，已过期的键顺带删除
+         */
+        private Entry live(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expireAt() != NO_EXPIRE && entry.expireAt() - now <= 0) {
+                remove(key);
+                return null;
+            }
+            return entry;
+        }
+
+        private byte[] read(Entry entry) {
+            byte[] bytes = new byte[entry.length()];
+            int block = entry.firstBlock();
+            for (int offset = 0; offset < bytes.length; offset += blockSize) {
+                memory.get(block * blockSize, bytes, offset,
+                        Math.min(blockSize, bytes.length - offset));
+                block = nextBlock[block];
+            }
+            return bytes;
+        }
+
+        /**
+         * 写入键值，空间不足时按 LRU 淘汰；值超过段容量时删除旧值并返回 false
+         */
+        private boolean write(String key, byte[] value, long expireAt) {
+            remove(key);
+            int required = blocks(value.length);
+            if (required > nextBlock.length) {
+                return false;
+            }
+            while (freeBlocks < required) {
+                Iterator<Entry> eldest = entries.values().iterator();
+                release(eldest.next());
+                eldest.remove();
+                evictionCount.increment();
+            }
+            int first = NO_BLOCK;
+            int previous = NO_BLOCK;
+            for (int offset = 0; offset < value.length; offset += blockSize) {
+                int block = freeHead;
+                freeHead = nextBlock[block];
+                memory.put(block * blockSize, value, offset,
+                        Math.min(blockSize, value.length - offset));
+                if (previous == NO_BLOCK) {
+                    first = block;
+                } else {
+                    nextBlock[previous] = block;
+                }
+                previous = block;
+            }
+            if (previous != NO_BLOCK) {
+                nextBlock[previous] = NO_BLOCK;
+            }
+            freeBlocks -= required;
+            entries.put(key, new Entry(first, value.length, expireAt));
+            entryCount = entries.size();
+            return true;
+        }
+
+        private boolean remove(String key) {
+            Entry entry = entries.remove(key);
+            if (entry == null) {
+                return false;
+            }
+            release(entry);
+            entryCount = entries.size();
+            return true;
+        }
+
+        private void release(Entry entry) {
+            int block = entry.firstBlock();
+            int count = blocks(entry.length());
+            for (int i = 0; i < count; i++) {
+                int next = nextBlock[block];
+                nextBlock[block] = freeHead;
+                freeHead = block;
+                block = next;
+            }
+            freeBlocks += count;
+        }
+
+        private int blocks(int length) {
+            return (length + blockSize - 1) / blockSize;
+        }
+    }
+}
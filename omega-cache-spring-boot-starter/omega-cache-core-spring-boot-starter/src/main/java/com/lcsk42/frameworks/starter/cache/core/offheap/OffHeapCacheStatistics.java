@@ -0,0 +1,29 @@
+package com.lcsk42.frameworks.starter.cache.core.offheap;
+
+/**
+ * 堆外缓存统计信息
+ *
+ * @param name 缓存名称
+ * @param size 当前键数量
+ * @param hitCount 命中次数
+ * @param missCount 未命中次数
+ * @param evictionCount 因空间不足被淘汰的键数量
+ * @param usedBytes 已占用的堆外内存（按块计算）
+ * @param capacityBytes 堆外内存总容量
+ */
+public record OffHeapCacheStatistics(String name,
+        long size,
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long usedBytes,
+        long capacityBytes) {
+
+    /**
+     * 命中率，尚无访问时为 0
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0L ? 0.0D : (double) hitCount / requestCount;
+    }
+}
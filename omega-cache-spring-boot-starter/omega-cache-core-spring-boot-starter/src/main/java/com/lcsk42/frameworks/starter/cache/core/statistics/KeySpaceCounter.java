@@ -0,0 +1,69 @@
+package com.lcsk42.frameworks.starter.cache.core.statistics;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按键空间（最后一个 {@code :} 之前的前缀）分组的计数器
+ * <p>
+ * 用于观察哪些键空间被频繁穿透。键空间数量达到上限后，新出现的前缀统一计入 {@link #OVERFLOW_KEY_SPACE}，避免被随机键撑爆内存。
+ * </p>
+ */
+public class KeySpaceCounter {
+
+    public static final String OVERFLOW_KEY_SPACE = "_overflow";
+
+    public static final String DEFAULT_KEY_SPACE = "_default";
+
+    private static final String KEY_SPACE_SEPARATOR = ":";
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final int maxKeySpaces;
+
+    public KeySpaceCounter(int maxKeySpaces) {
+        this.maxKeySpaces = maxKeySpaces;
+    }
+
+    /**
+     * 为键所属的键空间计数加一
+     *
+     * @param key 缓存键
+     */
+    public void increment(String key) {
+        String keySpace = keySpace(key);
+        LongAdder counter = counters.get(keySpace);
+        if (counter == null) {
+            if (counters.size() >= maxKeySpaces) {
+                keySpace = OVERFLOW_KEY_SPACE;
+            }
+            counter = counters.computeIfAbsent(keySpace, each -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 获取各键空间当前计数的快照，按键空间排序
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((keySpace, counter) -> result.put(keySpace, counter.sum()));
+        return result;
+    }
+
+    /**
+     * 清空所有计数
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    private String keySpace(String key) {
+        int index = StringUtils.lastIndexOf(key, KEY_SPACE_SEPARATOR);
+        return index > 0 ? key.substring(0, index) : DEFAULT_KEY_SPACE;
+    }
+}
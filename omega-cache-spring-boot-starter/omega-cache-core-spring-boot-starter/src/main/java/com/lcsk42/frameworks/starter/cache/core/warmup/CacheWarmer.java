@@ -0,0 +1,44 @@
+package com.lcsk42.frameworks.starter.cache.core.warmup;
+
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchLoader;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 缓存预热器
+ * <p>
+ * 应用启动时由预热引擎调用：先通过 {@link #keys()} 获取需要预热的键，再按批次调用 {@link #load(Collection)} 加载并批量写入缓存。
+ * 关键预热器未完成（或超时）前应用不会进入就绪状态。
+ * </p>
+ *
+ * @param <T> 缓存值类型
+ */
+public interface CacheWarmer<T> extends CacheBatchLoader<T> {
+
+    /**
+     * 预热器名称，用于日志
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 需要预热的键
+     */
+    Collection<String> keys();
+
+    /**
+     * 是否为关键预热器，关键预热器完成前应用保持未就绪
+     */
+    default boolean isCritical() {
+        return false;
+    }
+
+    /**
+     * 预热写入的过期时间，为 null 时使用缓存的默认过期时间
+     */
+    default Duration getTimeout() {
+        return null;
+    }
+}
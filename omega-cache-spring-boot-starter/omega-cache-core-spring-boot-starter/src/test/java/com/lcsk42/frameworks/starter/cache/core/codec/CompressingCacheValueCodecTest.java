@@ -0,0 +1,77 @@
+package com.lcsk42.frameworks.starter.cache.core.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressingCacheValueCodecTest {
+
+    private static final int THRESHOLD = 64;
+
+    private final CompressingCacheValueCodec codec =
+            new CompressingCacheValueCodec(new BytesCodec(), THRESHOLD);
+
+    @Test
+    void testRawBytesStartingWithFormerMagicRoundTrip() {
+        byte[] value = {(byte) 0xFF, 0x78, 0x01, 0x02};
+
+        byte[] encoded = codec.encode(value);
+        assertArrayEquals(value, encoded);
+        assertArrayEquals(value, codec.decode(encoded, byte[].class));
+    }
+
+    @Test
+    void testRawBytesStartingWithMagicRoundTrip() {
+        byte[] value = {(byte) 0xFF, 'O', 'C', 1, 1, 0x78};
+
+        assertArrayEquals(value, codec.decode(codec.encode(value), byte[].class));
+    }
+
+    @Test
+    void testCompressibleValueIsCompressed() {
+        byte[] value = new byte[THRESHOLD * 16];
+        Arrays.fill(value, (byte) 'a');
+
+        byte[] encoded = codec.encode(value);
+        assertTrue(encoded.length < value.length);
+        assertArrayEquals(value, codec.decode(encoded, byte[].class));
+    }
+
+    @Test
+    void testIncompressibleValueRoundTrip() {
+        byte[] value = new byte[THRESHOLD * 4];
+        new Random(42L).nextBytes(value);
+        value[0] = (byte) 0xFF;
+
+        assertArrayEquals(value, codec.decode(codec.encode(value), byte[].class));
+    }
+
+    @Test
+    void testUnframedValueIsDecodedByDelegate() {
+        byte[] legacy = {(byte) 0xFF, 'O', 'C'};
+
+        assertArrayEquals(legacy, codec.decode(legacy, byte[].class));
+    }
+
+    private static class BytesCodec implements CacheValueCodec {
+
+        @Override
+        public String getName() {
+            return "bytes";
+        }
+
+        @Override
+        public byte[] encode(Object value) {
+            return (byte[]) value;
+        }
+
+        @Override
+        public <T> T decode(byte[] bytes, Class<T> clazz) {
+            return clazz.cast(bytes);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.lcsk42.frameworks.starter.cache.core.offheap;
+
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapCacheTest {
+
+    private static final int BLOCK_SIZE = 16;
+
+    @Test
+    void testEvictsLeastRecentlyUsedKeyWhenSegmentIsFull() {
+        // 单段 4 块，每个值占 1 块
+        OffHeapCache cache = cache(4 * BLOCK_SIZE, 1);
+        for (String key : List.of("a", "b", "c", "d")) {
+            cache.put(key, value(key, BLOCK_SIZE), null);
+        }
+        cache.get("a", String.class);
+        cache.put("e", value("e", BLOCK_SIZE), null);
+
+        assertNull(cache.get("b", String.class));
+        for (String key : List.of("a", "c", "d", "e")) {
+            assertEquals(value(key, BLOCK_SIZE), cache.get(key, String.class));
+        }
+        OffHeapCacheStatistics statistics = cache.getStatistics();
+        assertEquals(1L, statistics.evictionCount());
+        assertEquals(4L, statistics.size());
+        assertEquals(4L * BLOCK_SIZE, statistics.usedBytes());
+    }
+
+    @Test
+    void testMultiBlockValuesRoundTripAcrossFragmentedBlocks() {
+        OffHeapCache cache = cache(16 * BLOCK_SIZE, 1);
+        cache.put("x", value("x", 40), null);
+        cache.put("y", value("y", 20), null);
+        cache.delete("x");
+        // 释放的 3 块与剩余空闲块不连续，新值需要跨越两部分
+        String large = value("z", 5 * BLOCK_SIZE + 3);
+        cache.put("z", large, null);
+
+        assertEquals(large, cache.get("z", String.class));
+        assertEquals(value("y", 20), cache.get("y", String.class));
+        assertEquals(8L * BLOCK_SIZE, cache.getStatistics().usedBytes());
+
+        // 覆盖为更短的值时归还多余的块
+        cache.put("z", "short", null);
+        assertEquals("short", cache.get("z", String.class));
+        assertEquals(3L * BLOCK_SIZE, cache.getStatistics().usedBytes());
+
+        cache.delete("y", "z");
+        assertEquals(0L, cache.getStatistics().usedBytes());
+    }
+
+    @Test
+    void testValueLargerThanSegmentIsNotStored() {
+        OffHeapCache cache = cache(4 * BLOCK_SIZE, 1);
+        cache.put("k", "old", null);
+        cache.put("k", value("k", 4 * BLOCK_SIZE + 1), null);
+
+        assertNull(cache.get("k", String.class));
+        assertEquals(0L, cache.getStatistics().usedBytes());
+    }
+
+    @Test
+    void testExpireAndTtl() throws InterruptedException {
+        OffHeapCache cache = cache(16 * BLOCK_SIZE, 2);
+        cache.put("persistent", "v", null);
+        assertEquals(-1L, cache.ttl("persistent"));
+        assertEquals(-2L, cache.ttl("missing"));
+        assertFalse(cache.expire("missing", Duration.ofHours(1)));
+
+        assertTrue(cache.expire("persistent", Duration.ofHours(1)));
+        long ttl = cache.ttl("persistent", TimeUnit.SECONDS);
+        assertTrue(ttl > 3500 && ttl <= 3600);
+
+        cache.put("short", "v", Duration.ofMillis(50));
+        assertTrue(cache.exists("short"));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertFalse(cache.exists("short"));
+        assertNull(cache.get("short", String.class));
+        assertEquals(-2L, cache.ttl("short"));
+    }
+
+    @Test
+    void testPutIfAllAbsent() {
+        OffHeapCache cache = cache(64 * BLOCK_SIZE, 4);
+        assertTrue(cache.putIfAllAbsent(List.of("a", "b", "c")));
+        assertTrue(cache.exists("a"));
+        assertTrue(cache.exists("b"));
+        assertTrue(cache.exists("c"));
+
+        // 任一键存在时整体失败，不写入其余键
+        assertFalse(cache.putIfAllAbsent(List.of("d", "c")));
+        assertFalse(cache.exists("d"));
+    }
+
+    @Test
+    void testIncrAndDecr() {
+        OffHeapCache cache = cache(16 * BLOCK_SIZE, 1);
+        assertEquals(1L, cache.incr("counter"));
+        assertEquals(2L, cache.incr("counter"));
+        assertEquals(1L, cache.decr("counter"));
+        assertEquals(-1L, cache.ttl("counter"));
+
+        // 已有键保留原过期时间
+        cache.put("expiring", "5", Duration.ofHours(1));
+        assertEquals(6L, cache.incr("expiring"));
+        assertTrue(cache.ttl("expiring") > 0L);
+
+        cache.put("text", "abc", null);
+        assertThrows(IllegalStateException.class, () -> cache.incr("text"));
+    }
+
+    private static OffHeapCache cache(long capacityBytes, int segmentCount) {
+        return new OffHeapCache("test", new StringCodec(), null, capacityBytes * segmentCount,
+                segmentCount, BLOCK_SIZE);
+    }
+
+    private static String value(String prefix, int length) {
+        return (prefix + "-".repeat(length)).substring(0, length);
+    }
+
+    /**
+     * 按 UTF-8 存取字符串的编解码器
+     */
+    private static final class StringCodec implements CacheValueCodec {
+
+        @Override
+        public String getName() {
+            return "string";
+        }
+
+        @Override
+        public byte[] encode(Object value) {
+            return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public <T> T decode(byte[] bytes, Class<T> clazz) {
+            return clazz.cast(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lcsk42.frameworks.starter.cache.redisson;
+
+import com.lcsk42.frameworks.starter.cache.core.AsyncCache;
+import com.lcsk42.frameworks.starter.cache.core.function.AsyncCacheLoader;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetFilter;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetIfAbsent;
+import jakarta.validation.constraints.NotBlank;
+import org.redisson.api.RBloomFilter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link DistributedCache} 的非阻塞版本，加载、请求合并、分布式锁与布隆过滤器检查全程不阻塞调用线程。
+ */
+public interface AsyncDistributedCache extends AsyncCache {
+
+    /**
+     * 获取缓存值。若未找到，则使用提供的 {@link AsyncCacheLoader} 加载该值。
+     */
+    <T> CompletableFuture<T> get(@NotBlank String key,
+            Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout);
+
+    /**
+     * 安全获取缓存值。未命中时同一 JVM 内的并发请求合并为一次加载，并通过分布式锁防止缓存击穿。
+     */
+    <T> CompletableFuture<T> safeGet(@NotBlank String key,
+            Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout);
+
+    /**
+     * 使用布隆过滤器安全获取缓存值，布隆过滤器中不存在的键直接返回 {@code null}，防止缓存穿透。
+     */
+    <T> CompletableFuture<T> safeGet(@NotBlank String key,
+            Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter);
+
+    /**
+     * 使用布隆过滤器、过滤器检查和回退处理器安全获取缓存值，语义与
+     * {@link DistributedCache#safeGet(String, Class, com.lcsk42.frameworks.starter.cache.core.function.CacheLoader, Duration, RBloomFilter, CacheGetFilter, CacheGetIfAbsent)}
+     * 一致。
+     */
+    <T> CompletableFuture<T> safeGet(@NotBlank String key,
+            Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter,
+            CacheGetFilter<String> cacheGetFilter,
+            CacheGetIfAbsent<String> cacheGetIfAbsent);
+}
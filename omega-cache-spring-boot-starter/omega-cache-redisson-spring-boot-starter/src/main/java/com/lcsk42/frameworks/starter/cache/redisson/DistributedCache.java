@@ -1,6 +1,7 @@
 package com.lcsk42.frameworks.starter.cache.redisson;
 
 import com.lcsk42.frameworks.starter.cache.core.Cache;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchLoader;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheGetFilter;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheGetIfAbsent;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheLoader;
@@ -9,6 +10,8 @@ import jakarta.validation.constraints.NotNull;
 import org.redisson.api.RBloomFilter;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 
 public interface DistributedCache extends Cache {
 
@@ -17,6 +20,23 @@ public interface DistributedCache extends Cache {
      */
     <T> T get(@NotBlank String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout);
 
+    /**
+     * 以提前刷新（refresh-ahead）模式获取缓存值。 值与其逻辑过期时间和重建耗时一同存储：临近逻辑过期时按 XFetch 概率提前异步刷新；逻辑过期后的陈旧窗口内继续返回旧值并异步重建，
+     * 只有首次加载或超出陈旧窗口时才同步调用 {@link CacheLoader}。 该模式写入的是包装值，同一键只能通过本方法读取。
+     */
+    <T> T getWithRefreshAhead(@NotBlank String key,
+            Class<T> clazz,
+            CacheLoader<T> cacheLoader,
+            Duration timeout);
+
+    /**
+     * 批量获取缓存值。未命中的键通过一次 {@link CacheBatchLoader} 调用批量加载，并在单次管道中回写缓存。
+     */
+    <T> Map<String, T> getAll(@NotNull Collection<String> keys,
+            Class<T> clazz,
+            CacheBatchLoader<T> batchLoader,
+            Duration timeout);
+
     /**
      * 安全获取缓存值。若未找到，则使用提供的 {@link CacheLoader} 加载该值。 有助于防止缓存击穿和雪崩问题。 适用于不对外暴露的内部接口。
      */
@@ -0,0 +1,529 @@
+package com.lcsk42.frameworks.starter.cache.redisson;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchLoader;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetFilter;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetIfAbsent;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheLoader;
+import com.lcsk42.frameworks.starter.cache.redisson.config.NearCacheProperties;
+import com.lcsk42.frameworks.starter.core.util.CacheUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 二级近端缓存
+ * <p>
+ * 在 Redis（L2）之前增加一层有界的进程内缓存（L1），L1 中保存的是已经反序列化后的对象，热点键的读取无需网络往返和 JSON 解析。 当本节点通过
+ * {@code put}、{@code delete}、{@code putIfExists} 等操作修改键时，会先失效本地条目，再通过 Redis 发布订阅通知其他节点失效。
+ * </p>
+ * <p>
+ * 注意：L1 返回的是共享对象实例，调用方不应修改返回值；跨节点的最大脏读窗口由 {@link NearCacheProperties#getExpireAfterWrite()} 决定。
+ * 哈希、集合、有序集合等结构操作以及 {@code getWithRefreshAhead} 不经过 L1，直接透传到 Redis。
+ * </p>
+ */
+@Slf4j
+public class NearDistributedCache implements DistributedCache, InitializingBean, DisposableBean {
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private final DistributedCache distributedCache;
+    private final RTopic invalidateTopic;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+
+    /**
+     * 当前节点标识，用于忽略自己发出的失效消息
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private Integer messageListenerId;
+    private Integer statusListenerId;
+
+    public NearDistributedCache(DistributedCache distributedCache,
+            RedissonClient redissonClient,
+            NearCacheProperties nearCacheProperties,
+            String keyPrefix) {
+        this.distributedCache = distributedCache;
+        this.invalidateTopic = redissonClient.getTopic(keyPrefix + nearCacheProperties.getTopic(),
+                StringCodec.INSTANCE);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaximumSize())
+                .expireAfterWrite(nearCacheProperties.getExpireAfterWrite())
+                .build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        messageListenerId = invalidateTopic.addListener(String.class,
+                (channel, message) -> onInvalidateMessage(message));
+        // 订阅（包括断线重连后的重新订阅）期间可能丢失失效消息，此时清空本地缓存以保证一致性
+        statusListenerId = invalidateTopic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                localCache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (messageListenerId != null && statusListenerId != null) {
+            invalidateTopic.removeListener(messageListenerId, statusListenerId);
+        }
+        localCache.invalidateAll();
+    }
+
+    @Override
+    public Duration getDefaultTimeOut() {
+        return distributedCache.getDefaultTimeOut();
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        T result = getLocal(key, clazz);
+        if (result != null) {
+            return result;
+        }
+        result = distributedCache.get(key, clazz);
+        putLocal(key, result);
+        return result;
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout) {
+        T result = getLocal(key, clazz);
+        if (result != null) {
+            return result;
+        }
+        result = distributedCache.get(key, clazz, cacheLoader, timeout);
+        putLocal(key, result);
+        return result;
+    }
+
+    /**
+     * 提前刷新模式不经过 L1：L1 命中会跳过 XFetch 判定，而后台刷新直接写入 Redis、不会广播失效，缓存在 L1 中的值无法随刷新更新
+     */
+    @Override
+    public <T> T getWithRefreshAhead(String key, Class<T> clazz, CacheLoader<T> cacheLoader,
+            Duration timeout) {
+        return distributedCache.getWithRefreshAhead(key, clazz, cacheLoader, timeout);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz,
+            CacheBatchLoader<T> batchLoader, Duration timeout) {
+        Map<String, T> result = new LinkedHashMap<>();
+        List<String> missKeys = getAllLocal(keys, clazz, result);
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+        Map<String, T> remote = distributedCache.getAll(missKeys, clazz, batchLoader, timeout);
+        remote.forEach(this::putLocal);
+        return mergeInOrder(keys, result, remote);
+    }
+
+    @Override
+    public <T> T safeGet(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout) {
+        return safeGet(key, clazz, cacheLoader, timeout, null, null, null);
+    }
+
+    @Override
+    public <T> T safeGet(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout,
+            RBloomFilter<String> bloomFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, bloomFilter, null, null);
+    }
+
+    @Override
+    public <T> T safeGet(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout,
+            RBloomFilter<String> bloomFilter, CacheGetFilter<String> cacheCheckFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, bloomFilter, cacheCheckFilter, null);
+    }
+
+    @Override
+    public <T> T safeGet(String key, Class<T> clazz,
+            CacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter,
+            CacheGetFilter<String> cacheGetFilter,
+            CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        T result = getLocal(key, clazz);
+        if (result != null) {
+            return result;
+        }
+        result = distributedCache.safeGet(key, clazz, cacheLoader, timeout, bloomFilter,
+                cacheGetFilter, cacheGetIfAbsent);
+        putLocal(key, result);
+        return result;
+    }
+
+    @Override
+    public void safePut(String key, Object value, Duration timeout,
+            RBloomFilter<String> bloomFilter) {
+        distributedCache.safePut(key, value, timeout, bloomFilter);
+        invalidate(key);
+    }
+
+    @Override
+    public long countExistingKeys(String... keys) {
+        return distributedCache.countExistingKeys(keys);
+    }
+
+    @Override
+    public <T> Map<String, T> mGet(Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new LinkedHashMap<>();
+        List<String> missKeys = getAllLocal(keys, clazz, result);
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+        Map<String, T> remote = distributedCache.mGet(missKeys, clazz);
+        remote.forEach(this::putLocal);
+        return mergeInOrder(keys, result, remote);
+    }
+
+    @Override
+    public <T> void mPut(Map<String, T> values, Duration timeout) {
+        distributedCache.mPut(values, timeout);
+        invalidate(values.keySet());
+    }
+
+    @Override
+    public <T> void put(String key, T value, Duration timeout) {
+        distributedCache.put(key, value, timeout);
+        invalidate(key);
+    }
+
+    @Override
+    public <T> boolean putIfAbsent(String key, T value, Duration timeout) {
+        boolean result = distributedCache.putIfAbsent(key, value, timeout);
+        if (result) {
+            invalidate(key);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> boolean putIfExists(String key, T value, Duration timeout) {
+        boolean result = distributedCache.putIfExists(key, value, timeout);
+        if (result) {
+            invalidate(key);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean putIfAllAbsent(Collection<String> keys) {
+        boolean result = distributedCache.putIfAllAbsent(keys);
+        if (result) {
+            invalidate(keys);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        boolean result = distributedCache.delete(key);
+        invalidate(key);
+        return result;
+    }
+
+    @Override
+    public long delete(Collection<String> keys) {
+        long result = distributedCache.delete(keys);
+        invalidate(keys);
+        return result;
+    }
+
+    @Override
+    public long delete(String... keys) {
+        long result = distributedCache.delete(keys);
+        invalidate(Arrays.asList(keys));
+        return result;
+    }
+
+    @Override
+    public long incr(String key) {
+        long result = distributedCache.incr(key);
+        invalidate(key);
+        return result;
+    }
+
+    @Override
+    public long decr(String key) {
+        long result = distributedCache.decr(key);
+        invalidate(key);
+        return result;
+    }
+
+    @Override
+    public boolean expire(String key, Duration timeout) {
+        boolean result = distributedCache.expire(key, timeout);
+        invalidate(key);
+        return result;
+    }
+
+    @Override
+    public long ttl(String key) {
+        return distributedCache.ttl(key);
+    }
+
+    @Override
+    public long ttl(String key, TimeUnit timeUnit) {
+        return distributedCache.ttl(key, timeUnit);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return localCache.getIfPresent(key) != null || distributedCache.exists(key);
+    }
+
+    @Override
+    public <T> void hSet(String key, String field, T value) {
+        distributedCache.hSet(key, field, value);
+    }
+
+    @Override
+    public <T> T hGet(String key, String field, Class<T> clazz) {
+        return distributedCache.hGet(key, field, clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> hGet(String key, Class<T> clazz) {
+        return distributedCache.hGet(key, clazz);
+    }
+
+    @Override
+    public boolean hExists(String key, String field) {
+        return distributedCache.hExists(key, field);
+    }
+
+    @Override
+    public long hDelete(String key, Object... fields) {
+        return distributedCache.hDelete(key, fields);
+    }
+
+    @Override
+    public <T> boolean zAdd(String key, T value, double score) {
+        return distributedCache.zAdd(key, value, score);
+    }
+
+    @Override
+    public <T> long zAddAll(String key, Map<T, Double> scoredValues) {
+        return distributedCache.zAddAll(key, scoredValues);
+    }
+
+    @Override
+    public <T> double zScore(String key, T value) {
+        return distributedCache.zScore(key, value);
+    }
+
+    @Override
+    public <T> List<Double> zScores(String key, Collection<T> values) {
+        return distributedCache.zScores(key, values);
+    }
+
+    @Override
+    public <T> long zRank(String key, T value) {
+        return distributedCache.zRank(key, value);
+    }
+
+    @Override
+    public long zSize(String key) {
+        return distributedCache.zSize(key);
+    }
+
+    @Override
+    public <T> long zRemove(String key, T value) {
+        return distributedCache.zRemove(key, value);
+    }
+
+    @Override
+    public long zRemoveRangeByScore(String key, double min, double max) {
+        return distributedCache.zRemoveRangeByScore(key, min, max);
+    }
+
+    @Override
+    public long zRemoveRangeByRank(String key, int startIndex, int endIndex) {
+        return distributedCache.zRemoveRangeByRank(key, startIndex, endIndex);
+    }
+
+    @Override
+    public <T> Collection<T> zRangeByScore(String key, double min, double max, Class<T> clazz) {
+        return distributedCache.zRangeByScore(key, min, max, clazz);
+    }
+
+    @Override
+    public <T> Collection<T> zRangeByScore(String key, double min, double max, int offset,
+            int count, Class<T> clazz) {
+        return distributedCache.zRangeByScore(key, min, max, offset, count, clazz);
+    }
+
+    @Override
+    public long zCountRangeByScore(String key, double min, double max) {
+        return distributedCache.zCountRangeByScore(key, min, max);
+    }
+
+    @Override
+    public <T> Map<T, Double> zRangeWithScores(String key, long start, long end, Class<T> clazz) {
+        return distributedCache.zRangeWithScores(key, start, end, clazz);
+    }
+
+    @Override
+    public <T> Map<T, Double> zRevRangeWithScores(String key, long start, long end,
+            Class<T> clazz) {
+        return distributedCache.zRevRangeWithScores(key, start, end, clazz);
+    }
+
+    @Override
+    public <T> double zSum(String key, Collection<T> values) {
+        return distributedCache.zSum(key, values);
+    }
+
+    @Override
+    public <T> void sAdd(String key, T value) {
+        distributedCache.sAdd(key, value);
+    }
+
+    @Override
+    public <T> long sAdd(String key, Collection<T> values) {
+        return distributedCache.sAdd(key, values);
+    }
+
+    @Override
+    public <T> long sRemove(String key, T value) {
+        return distributedCache.sRemove(key, value);
+    }
+
+    @Override
+    public <T> long sRemove(String key, Collection<T> values) {
+        return distributedCache.sRemove(key, values);
+    }
+
+    @Override
+    public <T> Collection<T> sMembers(String key, Class<T> clazz) {
+        return distributedCache.sMembers(key, clazz);
+    }
+
+    @Override
+    public <T> boolean sIsMember(String key, T value) {
+        return distributedCache.sIsMember(key, value);
+    }
+
+    @Override
+    public long sSize(String key) {
+        return distributedCache.sSize(key);
+    }
+
+    @Override
+    public Object getInstance() {
+        return distributedCache.getInstance();
+    }
+
+    /**
+     * 仅失效当前节点的本地缓存，不广播
+     *
+     * @param key 键
+     */
+    public void invalidateLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * 当前节点本地缓存的估算条目数
+     *
+     * @return 条目数
+     */
+    public long localSize() {
+        return localCache.estimatedSize();
+    }
+
+    private <T> T getLocal(String key, Class<T> clazz) {
+        Object value = localCache.getIfPresent(key);
+        return clazz.isInstance(value) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * 从本地缓存批量读取，命中的写入 {@code hits}，返回未命中的键
+     */
+    private <T> List<String> getAllLocal(Collection<String> keys, Class<T> clazz,
+            Map<String, T> hits) {
+        List<String> missKeys = new ArrayList<>();
+        for (String key : keys) {
+            T value = getLocal(key, clazz);
+            if (value != null) {
+                hits.put(key, value);
+            } else {
+                missKeys.add(key);
+            }
+        }
+        return missKeys;
+    }
+
+    private <T> Map<String, T> mergeInOrder(Collection<String> keys, Map<String, T> localHits,
+            Map<String, T> remoteHits) {
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = localHits.containsKey(key) ? localHits.get(key) : remoteHits.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private void putLocal(String key, Object value) {
+        if (!CacheUtil.isNullOrBlank(value)) {
+            localCache.put(key, value);
+        }
+    }
+
+    /**
+     * 失效当前节点的本地缓存并广播给其他节点，供绕过本类直接修改 Redis 的组件（如异步缓存）调用
+     *
+     * @param key 键
+     */
+    public void invalidate(String key) {
+        invalidate(List.of(key));
+    }
+
+    /**
+     * 批量失效当前节点的本地缓存并广播给其他节点
+     *
+     * @param keys 键集合
+     */
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(keys);
+        String message = instanceId + MESSAGE_SEPARATOR + String.join(MESSAGE_SEPARATOR, keys);
+        invalidateTopic.publishAsync(message).whenComplete((receivers, throwable) -> {
+            if (throwable != null) {
+                log.warn("[Omega] - Near cache failed to broadcast invalidation of {} key(s).",
+                        keys.size(), throwable);
+            }
+        });
+    }
+
+    private void onInvalidateMessage(String message) {
+        String[] parts = message.split(MESSAGE_SEPARATOR);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        localCache.invalidateAll(Arrays.asList(parts).subList(1, parts.length));
+    }
+}
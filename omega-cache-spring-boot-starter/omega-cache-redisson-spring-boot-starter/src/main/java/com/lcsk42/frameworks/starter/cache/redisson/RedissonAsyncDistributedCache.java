@@ -0,0 +1,355 @@
+package com.lcsk42.frameworks.starter.cache.redisson;
+
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodecResolver;
+import com.lcsk42.frameworks.starter.cache.core.concurrent.AsyncSingleFlight;
+import com.lcsk42.frameworks.starter.cache.core.function.AsyncCacheLoader;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetFilter;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheGetIfAbsent;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.CacheBloomFilter;
+import com.lcsk42.frameworks.starter.cache.redisson.config.RedisDistributedProperties;
+import com.lcsk42.frameworks.starter.cache.redisson.hotkey.HotKeyReplicator;
+import com.lcsk42.frameworks.starter.core.util.CacheUtil;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基于 Redisson 异步对象的 {@link AsyncDistributedCache} 实现
+ * <p>
+ * 键手动拼接全局前缀，值以字节数组读写并复用 {@link CacheValueCodecResolver}，与 {@link StringRedisTemplateProxy} 的数据完全互通；
+ * 空值占位符、safeGet 分布式锁以及经由 {@link CacheBloomFilter} 读写默认布隆过滤器的方式也与同步实现保持一致。
+ * </p>
+ * <p>
+ * 写操作会失效热点键本地副本，并在写入完成后经由 {@link NearDistributedCache} 失效本地 L1 并广播给其他节点；写入的过期时间按
+ * {@link RedisDistributedProperties#getTtlJitterRatio()} 增加随机抖动。
+ * </p>
+ */
+@RequiredArgsConstructor
+public class RedissonAsyncDistributedCache implements AsyncDistributedCache {
+
+    private static final byte[] NULL_VALUE_BYTES =
+            CacheUtil.NULL_VALUE.getBytes(StandardCharsets.UTF_8);
+
+    private final RedissonClient redissonClient;
+    private final RedisDistributedProperties redisProperties;
+    private final CacheValueCodecResolver codecResolver;
+
+    /**
+     * 默认布隆过滤器的容量管理实现，未开启防穿透时为 null
+     */
+    private final CacheBloomFilter cacheBloomFilter;
+
+    /**
+     * 热点键本地副本，未开启时为 null
+     */
+    private final HotKeyReplicator hotKeyReplicator;
+
+    /**
+     * 二级近端缓存，未开启时为 null
+     */
+    private final NearDistributedCache nearDistributedCache;
+
+    private final AsyncSingleFlight singleFlight = new AsyncSingleFlight();
+
+    @Override
+    public Duration getDefaultTimeOut() {
+        return redisProperties.getTimeout();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(String key, Class<T> clazz) {
+        return rawGet(key).thenApply(value -> decodeValue(key, value, clazz));
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, T>> mGet(Collection<String> keys, Class<T> clazz) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        }
+        String[] rawKeys = keys.stream().map(this::rawKey).toArray(String[]::new);
+        return redissonClient.getBuckets(ByteArrayCodec.INSTANCE).<byte[]>getAsync(rawKeys)
+                .toCompletableFuture()
+                .thenApply(values -> {
+                    Map<String, T> result = new LinkedHashMap<>();
+                    for (String key : keys) {
+                        T value = decodeValue(key, values.get(rawKey(key)), clazz);
+                        if (value != null) {
+                            result.put(key, value);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> put(String key, T value, Duration timeout) {
+        if (value == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        RBucket<byte[]> bucket = bucket(key);
+        byte[] rawValue = codecResolver.resolve(key).encode(value);
+        Duration ttl = jitterTimeout(timeout);
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key),
+                (ttl != null ? bucket.setAsync(rawValue, ttl) : bucket.setAsync(rawValue))
+                        .toCompletableFuture());
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> putIfAbsent(String key, T value, Duration timeout) {
+        if (value == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        RBucket<byte[]> bucket = bucket(key);
+        byte[] rawValue = codecResolver.resolve(key).encode(value);
+        Duration ttl = jitterTimeout(timeout);
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key), (ttl != null
+                ? bucket.setIfAbsentAsync(rawValue, ttl)
+                : bucket.setIfAbsentAsync(rawValue))
+                .toCompletableFuture()
+                .thenApply(BooleanUtils::isTrue));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(String key) {
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key),
+                bucket(key).deleteAsync().toCompletableFuture().thenApply(BooleanUtils::isTrue));
+    }
+
+    @Override
+    public CompletableFuture<Long> delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        String[] rawKeys = keys.stream().map(this::rawKey).toArray(String[]::new);
+        keys.forEach(this::invalidateHotKey);
+        return invalidateNearCache(keys,
+                redissonClient.getKeys().deleteAsync(rawKeys).toCompletableFuture());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(String key) {
+        return bucket(key).isExistsAsync().toCompletableFuture().thenApply(BooleanUtils::isTrue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> expire(String key, Duration timeout) {
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key), bucket(key).expireAsync(timeout)
+                .toCompletableFuture()
+                .thenApply(BooleanUtils::isTrue));
+    }
+
+    @Override
+    public CompletableFuture<Long> incr(String key) {
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key),
+                redissonClient.getAtomicLong(rawKey(key)).incrementAndGetAsync()
+                        .toCompletableFuture());
+    }
+
+    @Override
+    public CompletableFuture<Long> decr(String key) {
+        invalidateHotKey(key);
+        return invalidateNearCache(List.of(key),
+                redissonClient.getAtomicLong(rawKey(key)).decrementAndGetAsync()
+                        .toCompletableFuture());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(String key, Class<T> clazz, AsyncCacheLoader<T> cacheLoader,
+            Duration timeout) {
+        return rawGet(key).thenCompose(value -> {
+            if (isNullValue(value)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            T result = decodeValue(key, value, clazz);
+            if (!CacheUtil.isNullOrBlank(result)) {
+                return CompletableFuture.completedFuture(result);
+            }
+            return loadAndSet(key, cacheLoader, timeout);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> safeGet(String key, Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader, Duration timeout) {
+        return safeGet(key, clazz, cacheLoader, timeout, null, null, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> safeGet(String key, Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader, Duration timeout, RBloomFilter<String> bloomFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, bloomFilter, null, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> safeGet(String key, Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter,
+            CacheGetFilter<String> cacheGetFilter,
+            CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        CompletableFuture<T> future = rawGet(key).thenCompose(value -> {
+            if (isNullValue(value)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            T result = decodeValue(key, value, clazz);
+            if (!CacheUtil.isNullOrBlank(result)
+                    || Optional.ofNullable(cacheGetFilter).map(each -> each.filter(key))
+                            .orElse(false)) {
+                return CompletableFuture.completedFuture(result);
+            }
+            return mightContain(bloomFilter, key).thenCompose(contains -> contains
+                    ? singleFlight.execute(key,
+                            () -> lockAndLoad(key, clazz, cacheLoader, timeout, bloomFilter))
+                    : CompletableFuture.completedFuture(result));
+        });
+        return future.thenApply(result -> {
+            if (CacheUtil.isNullOrBlank(result)) {
+                Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
+            }
+            return result;
+        });
+    }
+
+    private CompletableFuture<Boolean> mightContain(RBloomFilter<String> bloomFilter,
+            String key) {
+        if (bloomFilter == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (isManaged(bloomFilter)) {
+            return cacheBloomFilter.containsAsync(key);
+        }
+        return bloomFilter.containsAsync(key).toCompletableFuture()
+                .thenApply(BooleanUtils::isTrue);
+    }
+
+    private boolean isManaged(RBloomFilter<String> bloomFilter) {
+        return cacheBloomFilter != null
+                && Objects.equals(cacheBloomFilter.getName(), bloomFilter.getName());
+    }
+
+    private <T> CompletableFuture<T> lockAndLoad(String key,
+            Class<T> clazz,
+            AsyncCacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter) {
+        // 与同步实现使用同一把锁；异步场景没有稳定的线程，使用随机标识作为锁持有者
+        RLock lock = redissonClient.getLock(
+                StringRedisTemplateProxy.SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX + key);
+        long lockOwnerId = ThreadLocalRandom.current().nextLong();
+        return lock.lockAsync(lockOwnerId).toCompletableFuture()
+                .thenCompose(ignored -> rawGet(key))
+                .thenCompose(value -> {
+                    if (isNullValue(value)) {
+                        return CompletableFuture.<T>completedFuture(null);
+                    }
+                    T result = decodeValue(key, value, clazz);
+                    if (!CacheUtil.isNullOrBlank(result)) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    return loadAndSet(key, cacheLoader, timeout)
+                            .thenCompose(loaded -> addToBloomFilter(bloomFilter, key, loaded));
+                })
+                .whenComplete((result, ex) -> lock.unlockAsync(lockOwnerId));
+    }
+
+    private <T> CompletableFuture<T> addToBloomFilter(RBloomFilter<String> bloomFilter,
+            String key, T loaded) {
+        if (bloomFilter == null || CacheUtil.isNullOrBlank(loaded)) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        CompletableFuture<?> added = isManaged(bloomFilter)
+                ? cacheBloomFilter.addAsync(key)
+                : bloomFilter.addAsync(key).toCompletableFuture();
+        return added.thenApply(ignored -> loaded);
+    }
+
+    private <T> CompletableFuture<T> loadAndSet(String key, AsyncCacheLoader<T> cacheLoader,
+            Duration timeout) {
+        return cacheLoader.load().thenCompose(result -> {
+            if (!CacheUtil.isNullOrBlank(result)) {
+                return put(key, result, timeout).thenApply(ignored -> result);
+            }
+            if (BooleanUtils.isTrue(redisProperties.getCacheNullValues())) {
+                return put(key, CacheUtil.NULL_VALUE, redisProperties.getNullValueTimeout())
+                        .thenApply(ignored -> result);
+            }
+            return CompletableFuture.completedFuture(result);
+        });
+    }
+
+    private void invalidateHotKey(String key) {
+        if (hotKeyReplicator != null) {
+            hotKeyReplicator.invalidate(key);
+        }
+    }
+
+    /**
+     * 写入完成（无论成功与否）后失效近端缓存并广播，避免其他节点的 L1 在写入生效前被重新填充旧值
+     */
+    private <R> CompletableFuture<R> invalidateNearCache(Collection<String> keys,
+            CompletableFuture<R> write) {
+        if (nearDistributedCache == null) {
+            return write;
+        }
+        return write.whenComplete((result, ex) -> nearDistributedCache.invalidate(keys));
+    }
+
+    /**
+     * 在过期时间上增加随机抖动，与同步实现使用同一比例
+     */
+    private Duration jitterTimeout(Duration timeout) {
+        double ratio = Optional.ofNullable(redisProperties.getTtlJitterRatio())
+                .orElse(NumberUtils.DOUBLE_ZERO);
+        if (timeout == null || ratio <= 0) {
+            return timeout;
+        }
+        long jitterNanos =
+                (long) (timeout.toNanos() * ratio * ThreadLocalRandom.current().nextDouble());
+        return timeout.plusNanos(jitterNanos);
+    }
+
+    private String rawKey(String key) {
+        return redisProperties.getPrefix() + key;
+    }
+
+    private RBucket<byte[]> bucket(String key) {
+        return redissonClient.getBucket(rawKey(key), ByteArrayCodec.INSTANCE);
+    }
+
+    private CompletableFuture<byte[]> rawGet(String key) {
+        return bucket(key).getAsync().toCompletableFuture();
+    }
+
+    private boolean isNullValue(byte[] value) {
+        return Arrays.equals(NULL_VALUE_BYTES, value);
+    }
+
+    private <T> T decodeValue(String key, byte[] value, Class<T> clazz) {
+        if (value == null || isNullValue(value)) {
+            return null;
+        }
+        return codecResolver.resolve(key).decode(value, clazz);
+    }
+}
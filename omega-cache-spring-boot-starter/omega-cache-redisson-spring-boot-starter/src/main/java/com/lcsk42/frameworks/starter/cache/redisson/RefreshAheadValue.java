@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.cache.redisson;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 提前刷新模式下写入 Redis 的缓存值包装
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshAheadValue {
+
+    /**
+     * 实际缓存值，与包装一起由缓存值编解码器编码；读取时解码为通用结构，由调用方转换为目标类型
+     */
+    private Object value;
+
+    /**
+     * 逻辑过期时间（毫秒时间戳），物理过期时间在此基础上再加上陈旧窗口
+     */
+    private long expireAt;
+
+    /**
+     * 上一次重建该值的耗时（毫秒），用于 XFetch 计算提前刷新概率
+     */
+    private long computeMillis;
+}
@@ -1,49 +1,123 @@
 package com.lcsk42.frameworks.starter.cache.redisson;
 
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodecResolver;
+import com.lcsk42.frameworks.starter.cache.core.concurrent.SingleFlight;
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchLoader;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheGetFilter;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheGetIfAbsent;
 import com.lcsk42.frameworks.starter.cache.core.function.CacheLoader;
+import com.lcsk42.frameworks.starter.cache.core.statistics.KeySpaceCounter;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.CacheBloomFilter;
 import com.lcsk42.frameworks.starter.cache.redisson.config.RedisDistributedProperties;
-import com.lcsk42.frameworks.starter.core.Singleton;
+import com.lcsk42.frameworks.starter.cache.redisson.config.RefreshAheadProperties;
+import com.lcsk42.frameworks.starter.cache.redisson.hotkey.HotKeyReplicator;
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.script.RegisteredScript;
 import com.lcsk42.frameworks.starter.core.util.CacheUtil;
 import com.lcsk42.frameworks.starter.json.jackson.util.JacksonUtil;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
-public class StringRedisTemplateProxy implements DistributedCache {
+public class StringRedisTemplateProxy implements DistributedCache, InitializingBean,
+        DisposableBean {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisDistributedProperties redisProperties;
     private final RedissonClient redissonClient;
+    private final RefreshAheadProperties refreshAheadProperties;
+    private final ExecutorService refreshAheadExecutor;
+    private final CacheValueCodecResolver codecResolver;
+    private final LuaScriptRegistry scriptRegistry;
+
+    /**
+     * 热点键本地副本，未开启热点探测时为 null
+     */
+    private final HotKeyReplicator hotKeyReplicator;
+
+    /**
+     * 默认防穿透布隆过滤器的容量管理实现（固定、可伸缩、轮换或本地镜像），未开启布隆过滤器时为 null
+     */
+    private final CacheBloomFilter cacheBloomFilter;
 
     private static final String LUA_PUT_IF_ABSENT_SCRIPT_PATH = "lua/putIfAbsent.lua";
     private static final String LUA_PUT_IF_EXISTS_SCRIPT_PATH = "lua/putIfExists.lua";
     private static final String LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH = "lua/putIfAllAbsent.lua";
-    private static final String SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX =
+    private static final String LUA_Z_SUM_SCRIPT_PATH = "lua/zSum.lua";
+    static final String SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX =
             "safe_get_distributed_lock_get:";
+    private static final String REFRESH_AHEAD_LOCK_KEY_PREFIX = "refresh_ahead_lock:";
+    private static final int MAX_STATISTICS_KEY_SPACES = 1024;
+    private static final byte[] NULL_VALUE_BYTES =
+            CacheUtil.NULL_VALUE.getBytes(StandardCharsets.UTF_8);
+    private static final RedisSerializer<Boolean> BOOLEAN_RESULT_SERIALIZER =
+            new GenericToStringSerializer<>(Boolean.class);
+
+    /**
+     * safeGet 与提前刷新读取的值格式不同（后者为 {@link RefreshAheadValue} 包装），使用各自的请求合并实例，
+     * 避免同一键上两条路径的调用共享结果
+     */
+    private final SingleFlight safeGetSingleFlight = new SingleFlight();
+    private final SingleFlight refreshAheadSingleFlight = new SingleFlight();
+
+    /**
+     * 按键空间统计的回源加载次数
+     */
+    private final KeySpaceCounter loadMissCounter =
+            new KeySpaceCounter(MAX_STATISTICS_KEY_SPACES);
+
+    /**
+     * 按键空间统计的空值占位符命中次数，反映不存在的键被探测的频率
+     */
+    private final KeySpaceCounter nullValueHitCounter =
+            new KeySpaceCounter(MAX_STATISTICS_KEY_SPACES);
+
+    /**
+     * 当前节点正在异步刷新的键，避免同一键重复提交刷新任务
+     */
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
 
 
     @Override
@@ -53,13 +127,78 @@ public class StringRedisTemplateProxy implements DistributedCache {
 
     @Override
     public <T> T get(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout) {
-        T result = get(key, clazz);
+        byte[] value = rawGet(key);
+        if (isNullValueHit(key, value)) {
+            return null;
+        }
+        T result = decodeValue(key, value, clazz);
         if (!CacheUtil.isNullOrBlank(result)) {
             return result;
         }
         return loadAndSet(key, cacheLoader, timeout, false, null);
     }
 
+    @Override
+    public <T> T getWithRefreshAhead(String key, Class<T> clazz, CacheLoader<T> cacheLoader,
+            Duration timeout) {
+        RefreshAheadValue cacheValue = get(key, RefreshAheadValue.class);
+        if (cacheValue == null) {
+            // 首次加载或已超出陈旧窗口，只能同步加载
+            return refreshAheadSingleFlight.execute(key,
+                    () -> lockAndLoadRefreshAhead(key, clazz, cacheLoader, timeout),
+                    redisProperties.getSingleFlightWaitTimeout());
+        }
+        if (shouldRefresh(cacheValue)) {
+            refreshAsync(key, cacheLoader, timeout);
+        }
+        return unwrapRefreshAhead(cacheValue, clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz,
+            CacheBatchLoader<T> batchLoader, Duration timeout) {
+        Map<String, byte[]> values = rawMGet(keys);
+        Map<String, T> hits = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (!isNullValueHit(key, value)) {
+                hits.put(key, decodeValue(key, value, clazz));
+            }
+        });
+        List<String> missKeys = keys.stream()
+                .filter(key -> !values.containsKey(key))
+                .distinct()
+                .toList();
+        if (missKeys.isEmpty()) {
+            return hits;
+        }
+        missKeys.forEach(loadMissCounter::increment);
+        Map<String, T> loaded = new LinkedHashMap<>();
+        Optional.ofNullable(batchLoader.load(missKeys))
+                .orElse(Map.of())
+                .forEach((key, value) -> {
+                    if (!CacheUtil.isNullOrBlank(value)) {
+                        loaded.put(key, value);
+                    }
+                });
+        pipelinedPut(loaded, timeout, true);
+        if (isCacheNullValues()) {
+            Map<String, Object> nullValues = new LinkedHashMap<>();
+            missKeys.stream()
+                    .filter(key -> !loaded.containsKey(key))
+                    .forEach(key -> nullValues.put(key, CacheUtil.NULL_VALUE));
+            pipelinedPut(nullValues, redisProperties.getNullValueTimeout(), false);
+        }
+        // 按传入键的顺序合并命中与加载结果
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = hits.containsKey(key) ? hits.get(key) : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public <T> T safeGet(String key, Class<T> clazz, CacheLoader<T> cacheLoader, Duration timeout) {
         return get(key, clazz, cacheLoader, timeout);
@@ -84,28 +223,28 @@ public class StringRedisTemplateProxy implements DistributedCache {
             RBloomFilter<String> bloomFilter,
             CacheGetFilter<String> cacheGetFilter,
             CacheGetIfAbsent<String> cacheGetIfAbsent) {
-        T result = get(key, clazz);
+        byte[] value = rawGet(key);
+        // 命中空值占位符说明该键近期已确认不存在，无需再查询布隆过滤器或回源
+        if (isNullValueHit(key, value)) {
+            Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
+            return null;
+        }
+        T result = decodeValue(key, value, clazz);
         // 如果缓存结果不为 null 或不为空，则返回缓存结果
         // 使用函数来决定是否返回 null 以支持不可删除的 Bloom 过滤器场景
         // 如果两次检查都失败，当 Bloom 过滤器不包含该键时返回 null
         if (!CacheUtil.isNullOrBlank(result)
                 || Optional.ofNullable(cacheGetFilter).map(each -> each.filter(key)).orElse(false)
-                || Optional.ofNullable(bloomFilter).map(each -> !each.contains(key))
+                || Optional.ofNullable(bloomFilter).map(each -> !bloomContains(each, key))
                         .orElse(false)) {
             return result;
         }
-        RLock lock = redissonClient.getLock(SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX + key);
-        lock.lock();
-        try {
-            if (CacheUtil.isNullOrBlank(result = get(key, clazz))) {
-                if (CacheUtil
-                        .isNullOrBlank(result =
-                                loadAndSet(key, cacheLoader, timeout, true, bloomFilter))) {
-                    Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
-                }
-            }
-        } finally {
-            lock.unlock();
+        // 同一 JVM 内相同键的并发未命中共享一次加载，只有 leader 线程获取分布式锁
+        result = safeGetSingleFlight.execute(key,
+                () -> lockAndLoad(key, clazz, cacheLoader, timeout, bloomFilter),
+                redisProperties.getSingleFlightWaitTimeout());
+        if (CacheUtil.isNullOrBlank(result)) {
+            Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
         }
         return result;
     }
@@ -114,108 +253,133 @@ public class StringRedisTemplateProxy implements DistributedCache {
     public void safePut(String key, Object value, Duration timeout,
             RBloomFilter<String> bloomFilter) {
         put(key, value, timeout);
-        if (bloomFilter != null) {
+        if (bloomFilter == null) {
+            return;
+        }
+        if (isManaged(bloomFilter)) {
+            cacheBloomFilter.add(key);
+        } else {
             bloomFilter.add(key);
         }
     }
 
+    private boolean bloomContains(RBloomFilter<String> bloomFilter, String key) {
+        return isManaged(bloomFilter) ? cacheBloomFilter.contains(key)
+                : bloomFilter.contains(key);
+    }
+
+    private boolean isManaged(RBloomFilter<String> bloomFilter) {
+        return cacheBloomFilter != null
+                && Objects.equals(cacheBloomFilter.getName(), bloomFilter.getName());
+    }
+
     @Override
     public long countExistingKeys(@NotNull String... keys) {
-        return Optional.ofNullable(stringRedisTemplate.countExistingKeys(List.of(keys)))
-                .orElse(NumberUtils.LONG_ZERO);
+        return countBySlot(List.of(keys),
+                (connection, rawKeys) -> connection.keyCommands().exists(rawKeys));
     }
 
     @Override
     public <T> T get(String key, Class<T> clazz) {
-        String value = stringRedisTemplate.opsForValue().get(key);
-        return handleResult(value, clazz);
+        return decodeValue(key, rawGet(key), clazz);
     }
 
     @Override
-    public <T> void put(String key, T value, Duration timeout) {
-        convertValue(value)
-                .ifPresent(val -> stringRedisTemplate.opsForValue().set(key, val,
-                        convertTimeout(timeout), TimeUnit.NANOSECONDS));
+    public <T> Map<String, T> mGet(Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new LinkedHashMap<>();
+        rawMGet(keys).forEach((key, value) -> {
+            T handledValue = decodeValue(key, value, clazz);
+            if (handledValue != null) {
+                result.put(key, handledValue);
+            }
+        });
+        return result;
     }
 
     @Override
-    public <T> boolean putIfAbsent(String key, T value, Duration timeout) {
-        DefaultRedisScript<Boolean> script = getDefaultRedisScript(LUA_PUT_IF_ABSENT_SCRIPT_PATH);
+    public <T> void mPut(Map<String, T> values, Duration timeout) {
+        pipelinedPut(values, timeout, false);
+    }
 
-        if (Objects.isNull(script)) {
-            return false;
+    @Override
+    public <T> void put(String key, T value, Duration timeout) {
+        byte[] rawValue = encodeValue(key, value);
+        if (rawValue == null) {
+            return;
         }
+        invalidateHotKey(key);
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection
+                .stringCommands()
+                .set(rawKey(key), rawValue, expiration(timeout),
+                        RedisStringCommands.SetOption.upsert()));
+    }
 
-        return convertValue(value)
-                .map(val -> stringRedisTemplate.execute(
-                        script,
-                        Collections.singletonList(key),
-                        val,
-                        String.valueOf(convertTimeout(timeout))))
+    @Override
+    public <T> boolean putIfAbsent(String key, T value, Duration timeout) {
+        RegisteredScript<Boolean> script = getDefaultRedisScript(LUA_PUT_IF_ABSENT_SCRIPT_PATH);
+        invalidateHotKey(key);
+        return Optional.ofNullable(encodeValue(key, value))
+                .map(val -> executeValueScript(script, key, val, timeout))
                 .map(BooleanUtils::isTrue)
                 .orElse(false);
     }
 
     @Override
     public <T> boolean putIfExists(String key, T value, Duration timeout) {
-        DefaultRedisScript<Boolean> script = getDefaultRedisScript(LUA_PUT_IF_EXISTS_SCRIPT_PATH);
-
-        if (Objects.isNull(script)) {
-            return false;
-        }
-
-        return convertValue(value)
-                .map(val -> stringRedisTemplate.execute(script,
-                        Collections.singletonList(key),
-                        val,
-                        String.valueOf(convertTimeout(timeout))))
+        RegisteredScript<Boolean> script = getDefaultRedisScript(LUA_PUT_IF_EXISTS_SCRIPT_PATH);
+        invalidateHotKey(key);
+        return Optional.ofNullable(encodeValue(key, value))
+                .map(val -> executeValueScript(script, key, val, timeout))
                 .map(BooleanUtils::isTrue)
                 .orElse(false);
 
     }
 
+    /**
+     * 单次脚本调用检查并写入所有键。开启集群槽位分组时要求所有键位于同一槽位（使用哈希标签），否则无法保证原子性，直接拒绝
+     *
+     * @throws IllegalArgumentException 开启集群槽位分组且键分布在多个槽位时
+     */
     @Override
     public boolean putIfAllAbsent(Collection<String> keys) {
-
-        DefaultRedisScript<Boolean> script =
-                getDefaultRedisScript(LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH);
-
-        if (Objects.isNull(script)) {
-            return false;
+        if (groupBySlot(keys).size() > 1) {
+            throw new IllegalArgumentException(
+                    "putIfAllAbsent requires all keys in one hash slot, use a hash tag: " + keys);
         }
-        Boolean result = stringRedisTemplate.execute(script,
-                List.copyOf(keys),
-                redisProperties.getTimeout().toNanos(),
-                TimeUnit.NANOSECONDS);
-        return BooleanUtils.isTrue(result);
+        RegisteredScript<Boolean> script =
+                getDefaultRedisScript(LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH);
+        String timeout = String.valueOf(convertTimeout(redisProperties.getTimeout()));
+        return BooleanUtils.isTrue(scriptRegistry.execute(script, List.copyOf(keys), timeout));
     }
 
     @Override
     public boolean delete(String key) {
+        invalidateHotKey(key);
         return BooleanUtils.isTrue(stringRedisTemplate.delete(key));
     }
 
     @Override
     public long delete(Collection<String> keys) {
-        return Optional.ofNullable(stringRedisTemplate.delete(keys))
-                .orElse(NumberUtils.LONG_ZERO);
+        keys.forEach(this::invalidateHotKey);
+        return countBySlot(keys, (connection, rawKeys) -> connection.keyCommands().del(rawKeys));
     }
 
     @Override
     public long delete(String... keys) {
-        return Optional.ofNullable(stringRedisTemplate.delete(List.of(keys)))
-                .orElse(NumberUtils.LONG_ZERO);
+        return delete(List.of(keys));
     }
 
 
     @Override
     public long incr(String key) {
+        invalidateHotKey(key);
         return Optional.ofNullable(stringRedisTemplate.opsForValue().increment(key))
                 .orElse(NumberUtils.LONG_ZERO);
     }
 
     @Override
     public long decr(String key) {
+        invalidateHotKey(key);
         return Optional.ofNullable(stringRedisTemplate.opsForValue().decrement(key))
                 .orElse(NumberUtils.LONG_ZERO);
     }
@@ -280,6 +444,18 @@ public class StringRedisTemplateProxy implements DistributedCache {
                 .orElse(false);
     }
 
+    @Override
+    public <T> long zAddAll(String key, Map<T, Double> scoredValues) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        scoredValues.forEach((value, score) -> convertValue(value)
+                .ifPresent(val -> tuples.add(ZSetOperations.TypedTuple.of(val, score))));
+        if (tuples.isEmpty()) {
+            return NumberUtils.LONG_ZERO;
+        }
+        return Optional.ofNullable(stringRedisTemplate.opsForZSet().add(key, tuples))
+                .orElse(NumberUtils.LONG_ZERO);
+    }
+
     @Override
     public <T> double zScore(String key, T value) {
         return convertValue(value)
@@ -288,6 +464,36 @@ public class StringRedisTemplateProxy implements DistributedCache {
 
     }
 
+    @Override
+    public <T> List<Double> zScores(String key, Collection<T> values) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        // 无法转换的值不可能是成员，不发送给 ZMSCORE（null 成员会导致命令失败），其位置直接返回 null
+        List<Double> scores = new ArrayList<>(Collections.nCopies(values.size(), null));
+        List<Integer> positions = new ArrayList<>(values.size());
+        List<Object> members = new ArrayList<>(values.size());
+        int position = 0;
+        for (T value : values) {
+            int index = position++;
+            convertValue(value).ifPresent(member -> {
+                positions.add(index);
+                members.add(member);
+            });
+        }
+        if (members.isEmpty()) {
+            return scores;
+        }
+        List<Double> memberScores =
+                stringRedisTemplate.opsForZSet().score(key, members.toArray());
+        if (memberScores != null) {
+            for (int i = 0; i < positions.size() && i < memberScores.size(); i++) {
+                scores.set(positions.get(i), memberScores.get(i));
+            }
+        }
+        return scores;
+    }
+
     @Override
     public <T> long zRank(String key, T value) {
         return convertValue(value)
@@ -327,7 +533,7 @@ public class StringRedisTemplateProxy implements DistributedCache {
         Set<String> values = stringRedisTemplate.opsForZSet().rangeByScore(key, min, max);
         return values != null
                 ? values.stream().map(value -> handleResult(value, clazz))
-                        .collect(Collectors.toSet())
+                        .collect(Collectors.toCollection(LinkedHashSet::new))
                 : Set.of();
 
     }
@@ -339,7 +545,7 @@ public class StringRedisTemplateProxy implements DistributedCache {
                 stringRedisTemplate.opsForZSet().rangeByScore(key, min, max, offset, count);
         return values != null
                 ? values.stream().map(value -> handleResult(value, clazz))
-                        .collect(Collectors.toSet())
+                        .collect(Collectors.toCollection(LinkedHashSet::new))
                 : Set.of();
     }
 
@@ -349,12 +555,32 @@ public class StringRedisTemplateProxy implements DistributedCache {
                 .orElse(NumberUtils.LONG_ZERO);
     }
 
+    @Override
+    public <T> Map<T, Double> zRangeWithScores(String key, long start, long end, Class<T> clazz) {
+        return toScoredMap(stringRedisTemplate.opsForZSet().rangeWithScores(key, start, end),
+                clazz);
+    }
+
+    @Override
+    public <T> Map<T, Double> zRevRangeWithScores(String key, long start, long end,
+            Class<T> clazz) {
+        return toScoredMap(
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, end), clazz);
+    }
+
     @Override
     public <T> double zSum(String key, Collection<T> values) {
-        return values.stream()
-                .mapToDouble(value -> zScore(key, value))
-                .filter(Objects::nonNull)
-                .sum();
+        if (values.isEmpty()) {
+            return NumberUtils.DOUBLE_ZERO;
+        }
+        Object[] members = values.stream()
+                .map(this::convertValue)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .toArray();
+        // 在服务端累加，避免逐个 ZSCORE 产生 N 次网络往返
+        String sum = scriptRegistry.execute(getZSumScript(), List.of(key), members);
+        return sum != null ? Double.parseDouble(sum) : NumberUtils.DOUBLE_ZERO;
     }
 
     @Override
@@ -426,15 +652,39 @@ public class StringRedisTemplateProxy implements DistributedCache {
         return stringRedisTemplate;
     }
 
-    private DefaultRedisScript<Boolean> getDefaultRedisScript(String path) {
-        return Singleton.get(path, () -> {
-            DefaultRedisScript<Boolean> redisScript = new DefaultRedisScript<>();
-            redisScript.setScriptSource(
-                    new ResourceScriptSource(
-                            new ClassPathResource(path)));
-            redisScript.setResultType(Boolean.class);
-            return redisScript;
-        });
+    /**
+     * 获取按键空间统计的回源加载次数
+     */
+    public Map<String, Long> getLoadMissStatistics() {
+        return loadMissCounter.snapshot();
+    }
+
+    /**
+     * 获取按键空间统计的空值占位符命中次数
+     */
+    public Map<String, Long> getNullValueHitStatistics() {
+        return nullValueHitCounter.snapshot();
+    }
+
+    private RegisteredScript<Boolean> getDefaultRedisScript(String path) {
+        return scriptRegistry.register(path, Boolean.class);
+    }
+
+    private RegisteredScript<String> getZSumScript() {
+        return scriptRegistry.register(LUA_Z_SUM_SCRIPT_PATH, String.class);
+    }
+
+    /**
+     * 将带分数的 ZSet 查询结果转换为保持原有顺序的映射
+     */
+    private <T> Map<T, Double> toScoredMap(Set<ZSetOperations.TypedTuple<String>> tuples,
+            Class<T> clazz) {
+        Map<T, Double> result = new LinkedHashMap<>();
+        if (tuples == null) {
+            return result;
+        }
+        tuples.forEach(each -> result.put(handleResult(each.getValue(), clazz), each.getScore()));
+        return result;
     }
 
     private <T> Optional<String> convertValue(T value) {
@@ -459,20 +709,330 @@ public class StringRedisTemplateProxy implements DistributedCache {
         return JacksonUtil.toBean(value.toString(), clazz);
     }
 
+    /**
+     * 缓存值按键前缀选择编解码器，以字节数组直接读写，不经过字符串中转
+     */
+    private <T> byte[] encodeValue(String key, T value) {
+        if (value == null) {
+            return null;
+        }
+        return codecResolver.resolve(key).encode(value);
+    }
+
+    private <T> T decodeValue(String key, byte[] value, Class<T> clazz) {
+        if (value == null || isNullValue(value)) {
+            return null;
+        }
+        return codecResolver.resolve(key).decode(value, clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) stringRedisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    private byte[] rawGet(String key) {
+        if (hotKeyReplicator == null) {
+            return stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection
+                    .stringCommands().get(rawKey(key)));
+        }
+        byte[] value = hotKeyReplicator.getLocal(key);
+        if (value != null) {
+            return value;
+        }
+        value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection
+                .stringCommands().get(rawKey(key)));
+        hotKeyReplicator.onRemoteRead(key, value);
+        return value;
+    }
+
+    private void invalidateHotKey(String key) {
+        if (hotKeyReplicator != null) {
+            hotKeyReplicator.invalidate(key);
+        }
+    }
+
+    private Expiration expiration(Duration timeout) {
+        return timeout != null ? Expiration.from(timeout) : Expiration.persistent();
+    }
+
+    private Boolean executeValueScript(RegisteredScript<Boolean> script, String key,
+            byte[] value, Duration timeout) {
+        byte[] rawTimeout = String.valueOf(convertTimeout(timeout))
+                .getBytes(StandardCharsets.UTF_8);
+        return scriptRegistry.execute(script, RedisSerializer.byteArray(),
+                BOOLEAN_RESULT_SERIALIZER, Collections.singletonList(key), value, rawTimeout);
+    }
+
+    /**
+     * 按槽位分组执行多键计数命令（DEL、EXISTS 等），多个分组在一次管道中发出，结果求和
+     * <p>
+     * 仅用于要求同槽位的非集群连接（如按槽位路由的代理）。原生集群连接（Lettuce、Jedis）已在驱动层按槽位拆分多键命令，
+     * 且 Jedis 集群连接不支持管道，因此直接整体执行，不再分组。
+     * </p>
+     */
+    private long countBySlot(Collection<String> keys,
+            BiFunction<RedisConnection, byte[][], Long> command) {
+        if (keys.isEmpty()) {
+            return NumberUtils.LONG_ZERO;
+        }
+        List<List<String>> groups = groupBySlot(keys);
+        return Optional.ofNullable(stringRedisTemplate.execute(
+                (RedisCallback<Long>) connection -> {
+                    if (groups.size() == 1 || connection instanceof RedisClusterConnection) {
+                        return command.apply(connection, rawKeys(keys));
+                    }
+                    connection.openPipeline();
+                    groups.forEach(group -> command.apply(connection, rawKeys(group)));
+                    return connection.closePipeline().stream()
+                            .filter(Number.class::isInstance)
+                            .mapToLong(each -> ((Number) each).longValue())
+                            .sum();
+                }))
+                .orElse(NumberUtils.LONG_ZERO);
+    }
+
+    private byte[][] rawKeys(Collection<String> keys) {
+        return keys.stream().map(this::rawKey).toArray(byte[][]::new);
+    }
+
+    /**
+     * 开启集群槽位分组时按哈希槽对键分组（保持键的原有顺序），否则所有键作为一组
+     */
+    private List<List<String>> groupBySlot(Collection<String> keys) {
+        if (!BooleanUtils.isTrue(redisProperties.getClusterSlotGrouping())) {
+            return List.of(List.copyOf(keys));
+        }
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String key : keys) {
+            groups.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(rawKey(key)),
+                    each -> new ArrayList<>()).add(key);
+        }
+        return List.copyOf(groups.values());
+    }
+
+    /**
+     * 批量读取原始值，只包含存在的键（含空值占位符），按传入键的顺序排列
+     */
+    private Map<String, byte[]> rawMGet(Collection<String> keys) {
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<String> keyList = List.copyOf(keys);
+        byte[][] rawKeys = keyList.stream().map(this::rawKey).toArray(byte[][]::new);
+        List<byte[]> values = stringRedisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands()
+                        .mGet(rawKeys));
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(keyList.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    private boolean isCacheNullValues() {
+        return BooleanUtils.isTrue(redisProperties.getCacheNullValues());
+    }
+
+    private boolean isNullValue(byte[] value) {
+        return Arrays.equals(NULL_VALUE_BYTES, value);
+    }
+
+    private boolean isNullValueHit(String key, byte[] value) {
+        if (!isNullValue(value)) {
+            return false;
+        }
+        nullValueHitCounter.increment(key);
+        return true;
+    }
+
+    /**
+     * 使用管道批量写入，只产生一次网络往返（MSET 不支持过期时间）
+     */
+    private <T> void pipelinedPut(Map<String, T> values, Duration timeout, boolean jitter) {
+        Map<String, byte[]> encodedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> Optional.ofNullable(encodeValue(key, value))
+                .ifPresent(val -> encodedValues.put(key, val)));
+        if (encodedValues.isEmpty()) {
+            return;
+        }
+        encodedValues.keySet().forEach(this::invalidateHotKey);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            encodedValues.forEach((key, val) -> {
+                Duration ttl = jitter ? jitterTimeout(timeout) : timeout;
+                connection.stringCommands().set(rawKey(key), val, expiration(ttl),
+                        RedisStringCommands.SetOption.upsert());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 在过期时间上增加随机抖动，避免批量加载的键在同一时刻集中过期
+     */
+    private Duration jitterTimeout(Duration timeout) {
+        double ratio = Optional.ofNullable(redisProperties.getTtlJitterRatio())
+                .orElse(NumberUtils.DOUBLE_ZERO);
+        if (timeout == null || ratio <= 0) {
+            return timeout;
+        }
+        long jitterNanos =
+                (long) (timeout.toNanos() * ratio * ThreadLocalRandom.current().nextDouble());
+        return timeout.plusNanos(jitterNanos);
+    }
+
+    /**
+     * XFetch 提前刷新判定：{@code now - delta * beta * ln(rand) >= expiry}。
+     * <p>
+     * 重建越慢、越接近逻辑过期，触发概率越高；逻辑过期后必然触发。
+     * </p>
+     */
+    private boolean shouldRefresh(RefreshAheadValue cacheValue) {
+        double random = 1.0D - ThreadLocalRandom.current().nextDouble();
+        double earlyMillis =
+                -cacheValue.getComputeMillis() * refreshAheadProperties.getBeta()
+                        * Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= cacheValue.getExpireAt();
+    }
+
+    private <T> void refreshAsync(String key, CacheLoader<T> cacheLoader, Duration timeout) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshAheadExecutor.execute(() -> {
+                RLock lock = redissonClient.getLock(REFRESH_AHEAD_LOCK_KEY_PREFIX + key);
+                // 其他节点正在刷新同一键时直接放弃
+                if (!lock.tryLock()) {
+                    refreshingKeys.remove(key);
+                    return;
+                }
+                try {
+                    RefreshAheadValue latest = get(key, RefreshAheadValue.class);
+                    if (latest == null || shouldRefresh(latest)) {
+                        loadAndSetRefreshAhead(key, cacheLoader, timeout);
+                    }
+                } catch (Exception ex) {
+                    log.warn("[Omega] - Refresh-ahead reload failed for key '{}'.", key, ex);
+                } finally {
+                    lock.unlock();
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // 刷新线程池已满，本次继续返回旧值
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private <T> T lockAndLoadRefreshAhead(String key,
+            Class<T> clazz,
+            CacheLoader<T> cacheLoader,
+            Duration timeout) {
+        RLock lock = redissonClient.getLock(SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX + key);
+        lock.lock();
+        try {
+            RefreshAheadValue cacheValue = get(key, RefreshAheadValue.class);
+            if (cacheValue != null) {
+                return unwrapRefreshAhead(cacheValue, clazz);
+            }
+            return loadAndSetRefreshAhead(key, cacheLoader, timeout);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T loadAndSetRefreshAhead(String key, CacheLoader<T> cacheLoader,
+            Duration timeout) {
+        long start = System.currentTimeMillis();
+        T result = cacheLoader.get();
+        long computeMillis = System.currentTimeMillis() - start;
+        if (CacheUtil.isNullOrBlank(result)) {
+            return result;
+        }
+        Duration logicalTimeout = jitterTimeout(Optional.ofNullable(timeout)
+                .orElse(redisProperties.getTimeout()));
+        // 包装中直接保存原始值，由编解码器连同包装一起编码一次
+        RefreshAheadValue cacheValue = new RefreshAheadValue(result,
+                System.currentTimeMillis() + logicalTimeout.toMillis(), computeMillis);
+        put(key, cacheValue, logicalTimeout.plus(refreshAheadProperties.getStaleWindow()));
+        return result;
+    }
+
+    /**
+     * 包装中的值随包装一起解码为通用结构（Map、List 或标量），在此转换为目标类型；兼容旧版本以 JSON 字符串保存的值
+     */
+    private <T> T unwrapRefreshAhead(RefreshAheadValue cacheValue, Class<T> clazz) {
+        Object value = cacheValue.getValue();
+        if (value == null || clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        if (value instanceof String json) {
+            return JacksonUtil.toBean(json, clazz);
+        }
+        return JacksonUtil.convert(value, clazz);
+    }
+
+    private <T> T lockAndLoad(String key,
+            Class<T> clazz,
+            CacheLoader<T> cacheLoader,
+            Duration timeout,
+            RBloomFilter<String> bloomFilter) {
+        RLock lock = redissonClient.getLock(SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX + key);
+        lock.lock();
+        try {
+            // 等锁期间其他节点可能已写入结果或空值占位符
+            byte[] value = rawGet(key);
+            if (isNullValue(value)) {
+                return null;
+            }
+            T result = decodeValue(key, value, clazz);
+            if (CacheUtil.isNullOrBlank(result)) {
+                result = loadAndSet(key, cacheLoader, timeout, true, bloomFilter);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private <T> T loadAndSet(String key,
             CacheLoader<T> cacheLoader,
             Duration timeout,
             boolean safeFlag,
             RBloomFilter<String> bloomFilter) {
+        loadMissCounter.increment(key);
         T result = cacheLoader.get();
         if (CacheUtil.isNullOrBlank(result)) {
+            if (isCacheNullValues()) {
+                put(key, CacheUtil.NULL_VALUE, redisProperties.getNullValueTimeout());
+            }
             return result;
         }
         if (safeFlag) {
-            safePut(key, result, timeout, bloomFilter);
+            safePut(key, result, jitterTimeout(timeout), bloomFilter);
         } else {
-            put(key, result, timeout);
+            put(key, result, jitterTimeout(timeout));
         }
         return result;
     }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 提前注册，由脚本注册中心在启动完成后统一预加载
+        getDefaultRedisScript(LUA_PUT_IF_ABSENT_SCRIPT_PATH);
+        getDefaultRedisScript(LUA_PUT_IF_EXISTS_SCRIPT_PATH);
+        getDefaultRedisScript(LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH);
+        getZSumScript();
+    }
+
+    @Override
+    public void destroy() {
+        refreshAheadExecutor.shutdown();
+    }
 }
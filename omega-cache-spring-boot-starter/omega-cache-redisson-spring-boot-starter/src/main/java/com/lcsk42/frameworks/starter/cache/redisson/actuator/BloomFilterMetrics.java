@@ -0,0 +1,68 @@
+package com.lcsk42.frameworks.starter.cache.redisson.actuator;
+
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.BloomFilterStatistics;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.CacheBloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 布隆过滤器指标：占用率、估算误判率、预期容量与子过滤器数量
+ * <p>
+ * 统计需要访问 Redis，同一次采集中的多个指标共享一份结果，结果缓存 {@link #REFRESH_INTERVAL}。
+ * </p>
+ */
+@Slf4j
+public class BloomFilterMetrics implements MeterBinder {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final CacheBloomFilter bloomFilter;
+
+    private volatile BloomFilterStatistics statistics;
+    private volatile long refreshedAt;
+
+    public BloomFilterMetrics(CacheBloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", bloomFilter.getName());
+        register(registry, "omega.cache.bloom.occupancy", "已置位比例", tags,
+                BloomFilterStatistics::occupancy);
+        register(registry, "omega.cache.bloom.false.probability", "按占用率估算的误判概率", tags,
+                BloomFilterStatistics::falseProbability);
+        register(registry, "omega.cache.bloom.expected.insertions", "预期插入量", tags,
+                BloomFilterStatistics::expectedInsertions);
+        register(registry, "omega.cache.bloom.filters", "子过滤器数量", tags,
+                BloomFilterStatistics::filterCount);
+    }
+
+    private void register(MeterRegistry registry, String name, String description, Tags tags,
+            ToDoubleFunction<BloomFilterStatistics> value) {
+        Gauge.builder(name, this, each -> {
+            BloomFilterStatistics current = each.statistics();
+            return current == null ? Double.NaN : value.applyAsDouble(current);
+        }).description(description).tags(tags).register(registry);
+    }
+
+    private BloomFilterStatistics statistics() {
+        long now = System.currentTimeMillis();
+        if (statistics == null || now - refreshedAt >= REFRESH_INTERVAL.toMillis()) {
+            try {
+                statistics = bloomFilter.getStatistics();
+            } catch (Exception ex) {
+                log.warn("[Omega] - Failed to collect statistics of bloom filter '{}'.",
+                        bloomFilter.getName(), ex);
+            }
+            refreshedAt = now;
+        }
+        return statistics;
+    }
+}
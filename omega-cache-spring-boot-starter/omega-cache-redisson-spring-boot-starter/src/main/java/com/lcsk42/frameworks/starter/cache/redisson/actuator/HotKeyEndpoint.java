@@ -0,0 +1,27 @@
+package com.lcsk42.frameworks.starter.cache.redisson.actuator;
+
+import com.lcsk42.frameworks.starter.cache.redisson.hotkey.HotKeyReplicator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 热点键监控端点：{@code /actuator/cacheHotKeys}
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "cacheHotKeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyReplicator hotKeyReplicator;
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("localCopies", hotKeyReplicator.getLocalCopyCount());
+        result.put("hotKeys", hotKeyReplicator.getHotKeys());
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package com.lcsk42.frameworks.starter.cache.redisson.actuator;
+
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.script.RegisteredScript;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lua 脚本指标：每个脚本的执行耗时、失败次数与最大耗时，之后注册的脚本也会自动注册
+ */
+@RequiredArgsConstructor
+public class LuaScriptMetrics implements MeterBinder {
+
+    private final LuaScriptRegistry luaScriptRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        luaScriptRegistry.onRegister(script -> register(registry, script));
+    }
+
+    private void register(MeterRegistry registry, RegisteredScript<?> script) {
+        Tags tags = Tags.of("script", script.getPath());
+        FunctionTimer.builder("omega.cache.lua.script", script,
+                RegisteredScript::getCallCount, RegisteredScript::getTotalNanos,
+                TimeUnit.NANOSECONDS)
+                .description("脚本执行耗时")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.lua.script.errors", script,
+                RegisteredScript::getErrorCount)
+                .description("脚本执行失败次数")
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder("omega.cache.lua.script.max", script, TimeUnit.MICROSECONDS,
+                RegisteredScript::getMaxMicros)
+                .description("启动以来的最大执行耗时")
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.lcsk42.frameworks.starter.cache.redisson.actuator;
+
+import com.lcsk42.frameworks.starter.cache.core.offheap.OffHeapCache;
+import com.lcsk42.frameworks.starter.cache.core.offheap.OffHeapCacheStatistics;
+import com.lcsk42.frameworks.starter.cache.redisson.offheap.OffHeapCacheFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 堆外缓存指标：键数量、命中与未命中次数、淘汰数量以及堆外内存占用，之后创建的缓存也会自动注册
+ */
+@RequiredArgsConstructor
+public class OffHeapCacheMetrics implements MeterBinder {
+
+    private final OffHeapCacheFactory offHeapCacheFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        offHeapCacheFactory.onCreate(cache -> register(registry, cache));
+    }
+
+    private void register(MeterRegistry registry, OffHeapCache cache) {
+        Tags tags = Tags.of("name", cache.getName());
+        Gauge.builder("omega.cache.off.heap.size", cache,
+                each -> each.getStatistics().size())
+                .description("当前键数量")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.off.heap.requests", cache,
+                each -> each.getStatistics().hitCount())
+                .description("命中次数")
+                .tags(tags.and("result", "hit"))
+                .register(registry);
+        FunctionCounter.builder("omega.cache.off.heap.requests", cache,
+                each -> each.getStatistics().missCount())
+                .description("未命中次数")
+                .tags(tags.and("result", "miss"))
+                .register(registry);
+        Gauge.builder("omega.cache.off.heap.hit.rate", cache,
+                each -> each.getStatistics().hitRate())
+                .description("累计命中率")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.off.heap.evictions", cache,
+                each -> each.getStatistics().evictionCount())
+                .description("因空间不足被淘汰的键数量")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("omega.cache.off.heap.memory.used", cache,
+                each -> each.getStatistics().usedBytes())
+                .description("已占用的堆外内存")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("omega.cache.off.heap.memory.capacity", cache,
+                each -> each.getStatistics().capacityBytes())
+                .description("堆外内存总容量")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.lcsk42.frameworks.starter.cache.redisson.actuator;
+
+import com.lcsk42.frameworks.starter.cache.redisson.writebehind.WriteBehindBuffer;
+import com.lcsk42.frameworks.starter.cache.redisson.writebehind.WriteBehindBufferFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 写后回写指标：待回写数量、回写耗时、回写键数量与失败批次数，之后创建的缓冲区也会自动注册
+ */
+@RequiredArgsConstructor
+public class WriteBehindMetrics implements MeterBinder {
+
+    private final WriteBehindBufferFactory writeBehindBufferFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        writeBehindBufferFactory.onCreate(buffer -> register(registry, buffer));
+    }
+
+    private void register(MeterRegistry registry, WriteBehindBuffer<?> buffer) {
+        Tags tags = Tags.of("name", buffer.getName());
+        Gauge.builder("omega.cache.write.behind.pending", buffer,
+                WriteBehindBuffer::getPendingCount)
+                .description("待回写的键数量")
+                .tags(tags)
+                .register(registry);
+        FunctionTimer.builder("omega.cache.write.behind.flush", buffer,
+                WriteBehindBuffer::getFlushCount, WriteBehindBuffer::getFlushTotalNanos,
+                TimeUnit.NANOSECONDS)
+                .description("回写批次耗时")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.write.behind.written", buffer,
+                WriteBehindBuffer::getWrittenCount)
+                .description("已回写的键数量")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.write.behind.failures", buffer,
+                WriteBehindBuffer::getFailureCount)
+                .description("回写失败的批次数")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.write.behind.dropped", buffer,
+                WriteBehindBuffer::getDroppedCount)
+                .description("未回写即被丢弃的键数量")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder("omega.cache.write.behind.rejected", buffer,
+                WriteBehindBuffer::getRejectedCount)
+                .description("缓冲区已满而被拒绝的写入次数")
+                .tags(tags)
+                .register(registry);
+    }
+}
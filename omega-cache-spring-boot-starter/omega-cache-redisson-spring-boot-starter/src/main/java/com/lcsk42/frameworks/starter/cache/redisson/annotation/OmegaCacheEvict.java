@@ -0,0 +1,31 @@
+package com.lcsk42.frameworks.starter.cache.redisson.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 缓存失效注解，删除 {@code name:key} 对应的缓存
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OmegaCacheEvict {
+
+    /**
+     * 缓存名称，作为缓存键前缀
+     */
+    String name();
+
+    /**
+     * 键（支持 Spring EL 表达式），为空时只使用名称
+     */
+    String key() default "";
+
+    /**
+     * 是否在方法执行前删除；默认在方法成功返回后删除
+     */
+    boolean beforeInvocation() default false;
+}
@@ -0,0 +1,57 @@
+package com.lcsk42.frameworks.starter.cache.redisson.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法结果缓存注解
+ * <p>
+ * 以 {@code name:key} 为缓存键读取缓存，未命中时执行目标方法加载并写入缓存，语义与 DistributedCache#safeGet 一致（单飞合并、分布式锁、
+ * 可选布隆过滤器）。返回 {@link java.util.concurrent.CompletableFuture} 的方法使用非阻塞缓存异步加载。 缓存值按返回值的原始类型反序列化，
+ * 泛型集合等需要完整类型信息的返回值应包装为具体类型。
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OmegaCacheable {
+
+    /**
+     * 缓存名称，作为缓存键前缀
+     */
+    String name();
+
+    /**
+     * 键（支持 Spring EL 表达式），为空时只使用名称
+     */
+    String key() default "";
+
+    /**
+     * 过期时间，小于等于 0 时使用缓存的默认过期时间
+     */
+    long timeout() default -1;
+
+    /**
+     * 过期时间单位
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 过期时间随机抖动比例（0 ~ 1），在全局抖动之外额外叠加，用于分散同一批键的过期时刻
+     */
+    double jitterRatio() default 0.0D;
+
+    /**
+     * 是否合并并发加载并使用分布式锁防止缓存击穿；关闭后未命中时直接执行目标方法
+     */
+    boolean sync() default true;
+
+    /**
+     * 是否使用默认的防穿透布隆过滤器，布隆过滤器中不存在的键直接返回 null（仅 sync 为 true 时生效）
+     */
+    boolean bloomFilter() default false;
+}
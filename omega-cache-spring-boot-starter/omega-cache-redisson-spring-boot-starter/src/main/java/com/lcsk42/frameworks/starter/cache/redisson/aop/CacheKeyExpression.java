@@ -0,0 +1,49 @@
+package com.lcsk42.frameworks.starter.cache.redisson.aop;
+
+import com.lcsk42.frameworks.starter.common.expression.ExpressionInvokeContext;
+import com.lcsk42.frameworks.starter.common.expression.SpelEvaluator;
+import com.lcsk42.frameworks.starter.core.util.CacheUtil;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 缓存键表达式
+ * <p>
+ * 每个方法只解析一次，解析与求值复用 {@link SpelEvaluator}（MIXED 模式编译、参数名只解析一次）。
+ * 表达式中可通过参数名、{@code #p0} / {@code #a0} 或 {@code #root.args} 访问方法参数。
+ * </p>
+ */
+class CacheKeyExpression {
+
+    private final String name;
+    private final String key;
+    private final Method method;
+
+    /**
+     * 键表达式，为空时缓存键只包含名称
+     */
+    private final SpelEvaluator evaluator;
+
+    CacheKeyExpression(String name, String key, Method method) {
+        this.name = name;
+        this.key = key;
+        this.method = method;
+        this.evaluator = StringUtils.isBlank(key) ? null : new SpelEvaluator(key, method);
+    }
+
+    /**
+     * 计算缓存键
+     */
+    String resolve(Object target, Object[] args) {
+        if (evaluator == null) {
+            return name;
+        }
+        Object value = evaluator.apply(new ExpressionInvokeContext(method, args, target));
+        if (value == null) {
+            throw new IllegalArgumentException("Cache key expression '" + key
+                    + "' evaluated to null on " + method);
+        }
+        return CacheUtil.buildKey(name, String.valueOf(value));
+    }
+}
@@ -0,0 +1,163 @@
+package com.lcsk42.frameworks.starter.cache.redisson.aop;
+
+import com.lcsk42.frameworks.starter.cache.redisson.AsyncDistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.annotation.OmegaCacheEvict;
+import com.lcsk42.frameworks.starter.cache.redisson.annotation.OmegaCacheable;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RBloomFilter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 缓存注解切面
+ * <p>
+ * 每个方法的键表达式、值类型与过期时间只解析一次并缓存，命中缓存时的额外开销仅为一次已编译表达式求值。
+ * </p>
+ */
+@Aspect
+@RequiredArgsConstructor
+public class OmegaCacheAspect {
+
+    private final DistributedCache distributedCache;
+    private final AsyncDistributedCache asyncDistributedCache;
+
+    /**
+     * 默认防穿透布隆过滤器，未开启时为 null
+     */
+    private final RBloomFilter<String> bloomFilter;
+
+    private final Map<Method, CacheableOperation> cacheableOperations = new ConcurrentHashMap<>();
+    private final Map<Method, CacheKeyExpression> evictOperations = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存读取
+     *
+     * @param joinPoint 切点
+     * @param cacheable 缓存注解
+     * @return 缓存值或目标方法的执行结果
+     * @throws Throwable 目标方法抛出的异常
+     */
+    @Around("@annotation(cacheable)")
+    public Object aroundCacheable(ProceedingJoinPoint joinPoint, OmegaCacheable cacheable)
+            throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CacheableOperation operation = cacheableOperations.computeIfAbsent(method,
+                each -> new CacheableOperation(each, cacheable));
+        String key = operation.keyExpression.resolve(joinPoint.getTarget(), joinPoint.getArgs());
+        Duration timeout = operation.timeout();
+        RBloomFilter<String> filter = cacheable.bloomFilter() ? bloomFilter : null;
+        try {
+            if (operation.async) {
+                return cacheable.sync()
+                        ? asyncDistributedCache.safeGet(key, operation.valueType,
+                                () -> proceedAsync(joinPoint), timeout, filter)
+                        : asyncDistributedCache.get(key, operation.valueType,
+                                () -> proceedAsync(joinPoint), timeout);
+            }
+            return cacheable.sync()
+                    ? distributedCache.safeGet(key, operation.valueType,
+                            () -> proceed(joinPoint), timeout, filter)
+                    : distributedCache.get(key, operation.valueType, () -> proceed(joinPoint),
+                            timeout);
+        } catch (InvocationFailure ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * 缓存失效
+     *
+     * @param joinPoint 切点
+     * @param cacheEvict 缓存失效注解
+     * @return 目标方法的执行结果
+     * @throws Throwable 目标方法抛出的异常
+     */
+    @Around("@annotation(cacheEvict)")
+    public Object aroundCacheEvict(ProceedingJoinPoint joinPoint, OmegaCacheEvict cacheEvict)
+            throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CacheKeyExpression keyExpression = evictOperations.computeIfAbsent(method,
+                each -> new CacheKeyExpression(cacheEvict.name(), cacheEvict.key(), each));
+        String key = keyExpression.resolve(joinPoint.getTarget(), joinPoint.getArgs());
+        if (cacheEvict.beforeInvocation()) {
+            distributedCache.delete(key);
+            return joinPoint.proceed();
+        }
+        Object result = joinPoint.proceed();
+        distributedCache.delete(key);
+        return result;
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationFailure(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> proceedAsync(ProceedingJoinPoint joinPoint) {
+        return (CompletableFuture<Object>) proceed(joinPoint);
+    }
+
+    /**
+     * 单个方法的缓存元数据
+     */
+    private final class CacheableOperation {
+
+        private final CacheKeyExpression keyExpression;
+        private final boolean async;
+        private final Class<Object> valueType;
+        private final Duration timeout;
+        private final double jitterRatio;
+
+        @SuppressWarnings("unchecked")
+        private CacheableOperation(Method method, OmegaCacheable cacheable) {
+            this.keyExpression = new CacheKeyExpression(cacheable.name(), cacheable.key(), method);
+            ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+            this.async = CompletableFuture.class.isAssignableFrom(method.getReturnType());
+            this.valueType = (Class<Object>) ClassUtils.resolvePrimitiveIfNecessary(async
+                    ? returnType.as(CompletableFuture.class).getGeneric(0).resolve(Object.class)
+                    : returnType.resolve(Object.class));
+            this.timeout = cacheable.timeout() > 0
+                    ? Duration.of(cacheable.timeout(), cacheable.timeUnit().toChronoUnit())
+                    : null;
+            this.jitterRatio = cacheable.jitterRatio();
+        }
+
+        private Duration timeout() {
+            Duration base = timeout != null ? timeout : distributedCache.getDefaultTimeOut();
+            if (jitterRatio <= 0.0D || base == null) {
+                return base;
+            }
+            long jitterMillis = (long) (base.toMillis() * jitterRatio
+                    * ThreadLocalRandom.current().nextDouble());
+            return base.plusMillis(jitterMillis);
+        }
+    }
+
+    /**
+     * 在加载回调中传递目标方法抛出的受检异常
+     */
+    private static final class InvocationFailure extends RuntimeException {
+
+        private InvocationFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 轮换布隆过滤器的数据源，重建新过滤器时提供当前全部有效键
+ */
+@FunctionalInterface
+public interface BloomFilterKeySource {
+
+    /**
+     * 分批提供全部有效键
+     *
+     * @param consumer 每批键的接收者
+     */
+    void load(Consumer<Collection<String>> consumer);
+}
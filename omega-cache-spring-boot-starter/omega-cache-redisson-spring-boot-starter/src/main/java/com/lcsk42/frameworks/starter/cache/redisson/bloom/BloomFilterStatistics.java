@@ -0,0 +1,53 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+
+/**
+ * 布隆过滤器统计信息
+ *
+ * @param name 过滤器名称
+ * @param filterCount 子过滤器数量
+ * @param expectedInsertions 各子过滤器预期插入量之和
+ * @param bitSize 各子过滤器位数之和
+ * @param occupancy 已置位比例
+ * @param falseProbability 按当前占用率估算的误判概率
+ */
+public record BloomFilterStatistics(String name, int filterCount, long expectedInsertions,
+        long bitSize, double occupancy, double falseProbability) {
+
+    /**
+     * 通过 BITCOUNT 统计一组 Redis 布隆过滤器，任一子过滤器命中即视为命中
+     */
+    static BloomFilterStatistics of(String name, RedissonClient redissonClient,
+            List<RBloomFilter<String>> filters) {
+        long expectedInsertions = 0L;
+        long bitSize = 0L;
+        long bitCount = 0L;
+        double passProbability = 1.0D;
+        for (RBloomFilter<String> filter : filters) {
+            long size = filter.getSize();
+            long cardinality = redissonClient.getBitSet(filter.getName()).cardinality();
+            expectedInsertions += filter.getExpectedInsertions();
+            bitSize += size;
+            bitCount += cardinality;
+            passProbability *= 1.0D - falseProbability(cardinality, size,
+                    filter.getHashIterations());
+        }
+        double occupancy = bitSize == 0L ? 0.0D : (double) bitCount / bitSize;
+        return new BloomFilterStatistics(name, filters.size(), expectedInsertions, bitSize,
+                occupancy, 1.0D - passProbability);
+    }
+
+    /**
+     * 单个布隆过滤器的误判概率：已置位比例的 k 次方
+     */
+    static double falseProbability(long bitCount, long bitSize, int hashIterations) {
+        if (bitSize == 0L) {
+            return 0.0D;
+        }
+        return Math.pow((double) bitCount / bitSize, hashIterations);
+    }
+}
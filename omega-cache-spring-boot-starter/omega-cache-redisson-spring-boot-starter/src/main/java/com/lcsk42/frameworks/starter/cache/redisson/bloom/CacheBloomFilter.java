@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 缓存防穿透布隆过滤器
+ * <p>
+ * 对 Redisson 布隆过滤器的封装，屏蔽固定容量、可伸缩、定期轮换以及本地镜像等不同实现。 StringRedisTemplateProxy 与
+ * RedissonAsyncDistributedCache 的 safeGet / safePut 遇到同名的 RBloomFilter 时会改由本接口完成判断与写入。
+ * </p>
+ */
+public interface CacheBloomFilter {
+
+    /**
+     * 过滤器名称，与对应 RBloomFilter Bean 的名称一致
+     */
+    String getName();
+
+    /**
+     * 判断键是否可能存在
+     */
+    boolean contains(String key);
+
+    /**
+     * 写入键
+     */
+    void add(String key);
+
+    /**
+     * 异步判断键是否可能存在
+     */
+    CompletableFuture<Boolean> containsAsync(String key);
+
+    /**
+     * 异步写入键
+     */
+    CompletableFuture<Void> addAsync(String key);
+
+    /**
+     * 获取占用率、估算误判率等统计信息，可能需要访问 Redis
+     */
+    BloomFilterStatistics getStatistics();
+}
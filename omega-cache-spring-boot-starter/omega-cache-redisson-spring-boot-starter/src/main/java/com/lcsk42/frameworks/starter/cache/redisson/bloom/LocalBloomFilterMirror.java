@@ -0,0 +1,295 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import io.netty.buffer.ByteBuf;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.Hash;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 布隆过滤器本地镜像
+ * <p>
+ * 在本地内存中保存 Redisson 布隆过滤器位图的快照，使 {@link #contains(String)} 只需进行内存位测试。 启动时从 Redis 全量加载位图，
+ * 本节点通过 {@link #add(String)} 写入的键同步更新本地位图并经 Pub/Sub 广播给其他节点，同时按固定间隔全量重新同步，
+ * 订阅断线重连后也会立即重新同步以弥补可能丢失的消息。
+ * </p>
+ * <p>
+ * 位索引的计算方式与 Redisson 保持一致（编码器序列化后取 128 位哈希），因此镜像与 Redis 中的位图逐位对应。
+ * 镜像只会多出位而不会丢失已写入的位，最坏情况是短时间内把新写入的键误判为不存在，由后续同步收敛。
+ * </p>
+ */
+@Slf4j
+public class LocalBloomFilterMirror implements CacheBloomFilter, InitializingBean,
+        DisposableBean {
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private final RBloomFilter<String> bloomFilter;
+    private final RedissonClient redissonClient;
+    private final RTopic updateTopic;
+    private final Duration resyncInterval;
+
+    /**
+     * 当前节点标识，用于忽略自己发出的增量消息
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot;
+
+    private ScheduledExecutorService resyncExecutor;
+    private Integer messageListenerId;
+    private Integer statusListenerId;
+
+    public LocalBloomFilterMirror(RBloomFilter<String> bloomFilter,
+            RedissonClient redissonClient,
+            String topicName,
+            Duration resyncInterval) {
+        this.bloomFilter = bloomFilter;
+        this.redissonClient = redissonClient;
+        this.updateTopic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+        this.resyncInterval = resyncInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        resyncExecutor = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("cache-bloom-mirror-")
+                .daemon(true)
+                .build());
+        resync();
+        messageListenerId = updateTopic.addListener(String.class,
+                (channel, message) -> onUpdateMessage(message));
+        statusListenerId = updateTopic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                resyncExecutor.execute(LocalBloomFilterMirror.this::resync);
+            }
+        });
+        long intervalMillis = resyncInterval.toMillis();
+        resyncExecutor.scheduleWithFixedDelay(this::resync, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (messageListenerId != null && statusListenerId != null) {
+            updateTopic.removeListener(messageListenerId, statusListenerId);
+        }
+        if (resyncExecutor != null) {
+            resyncExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return bloomFilter.getName();
+    }
+
+    /**
+     * 判断键是否可能存在，仅访问本地位图；镜像尚未完成加载时回退到 Redis 查询
+     */
+    @Override
+    public boolean contains(String key) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return bloomFilter.contains(key);
+        }
+        for (long index : indexes(key, current)) {
+            if (!current.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 写入键：先写入 Redis，再更新本地位图并广播给其他节点
+     */
+    @Override
+    public void add(String key) {
+        bloomFilter.add(key);
+        applyAndBroadcast(key);
+    }
+
+    /**
+     * 与 {@link #contains(String)} 相同，镜像已加载时直接返回本地判断结果
+     */
+    @Override
+    public CompletableFuture<Boolean> containsAsync(String key) {
+        if (snapshot == null) {
+            return bloomFilter.containsAsync(key).toCompletableFuture()
+                    .thenApply(Boolean.TRUE::equals);
+        }
+        return CompletableFuture.completedFuture(contains(key));
+    }
+
+    /**
+     * 与 {@link #add(String)} 相同，Redis 写入完成后更新本地位图并广播
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(String key) {
+        return bloomFilter.addAsync(key).toCompletableFuture()
+                .thenAccept(ignored -> applyAndBroadcast(key));
+    }
+
+    private void applyAndBroadcast(String key) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.setAll(indexes(key, current));
+        }
+        updateTopic.publishAsync(instanceId + MESSAGE_SEPARATOR + key)
+                .whenComplete((receivers, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("[Omega] - Bloom filter mirror failed to broadcast key '{}'.",
+                                key, throwable);
+                    }
+                });
+    }
+
+    /**
+     * 根据本地位图计算统计信息，不访问 Redis
+     */
+    @Override
+    public BloomFilterStatistics getStatistics() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new BloomFilterStatistics(getName(), 1, 0L, 0L, 0.0D, 0.0D);
+        }
+        long bitCount = current.bitCount();
+        return new BloomFilterStatistics(getName(), 1, current.expectedInsertions, current.size,
+                (double) bitCount / current.size,
+                BloomFilterStatistics.falseProbability(bitCount, current.size,
+                        current.hashIterations));
+    }
+
+    /**
+     * 从 Redis 全量同步位图。过滤器容量未变化时与现有位图合并，避免覆盖同步期间收到的增量
+     */
+    public void resync() {
+        try {
+            long size = bloomFilter.getSize();
+            int hashIterations = bloomFilter.getHashIterations();
+            long expectedInsertions = bloomFilter.getExpectedInsertions();
+            byte[] bytes = redissonClient.getBitSet(bloomFilter.getName()).toByteArray();
+            Snapshot fresh = new Snapshot(size, hashIterations, expectedInsertions, bytes);
+            Snapshot previous = snapshot;
+            snapshot = fresh;
+            // 先切换再合并，切换前写入旧快照的增量也会被带到新快照
+            if (previous != null && previous.size == size
+                    && previous.hashIterations == hashIterations) {
+                fresh.merge(previous);
+            }
+        } catch (Exception ex) {
+            log.warn("[Omega] - Bloom filter mirror failed to resync '{}'.",
+                    bloomFilter.getName(), ex);
+        }
+    }
+
+    private void onUpdateMessage(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || instanceId.equals(message.substring(0, separator))) {
+            return;
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.setAll(indexes(message.substring(separator + 1), current));
+        }
+    }
+
+    private long[] indexes(String key, Snapshot current) {
+        long[] hashes = hash(key);
+        long[] indexes = new long[current.hashIterations];
+        long hash = hashes[0];
+        for (int i = 0; i < current.hashIterations; i++) {
+            indexes[i] = (hash & Long.MAX_VALUE) % current.size;
+            hash += (i % 2 == 0) ? hashes[1] : hashes[0];
+        }
+        return indexes;
+    }
+
+    private long[] hash(String key) {
+        ByteBuf state;
+        try {
+            state = bloomFilter.getCodec().getValueEncoder().encode(key);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        try {
+            return Hash.hash128(state);
+        } finally {
+            state.release();
+        }
+    }
+
+    /**
+     * 位图快照，位顺序与 Redis SETBIT 一致（每个字节内高位在前）
+     */
+    private static final class Snapshot {
+
+        private final long size;
+        private final int hashIterations;
+        private final long expectedInsertions;
+        private final AtomicLongArray words;
+
+        private Snapshot(long size, int hashIterations, long expectedInsertions, byte[] bytes) {
+            this.size = size;
+            this.hashIterations = hashIterations;
+            this.expectedInsertions = expectedInsertions;
+            this.words = new AtomicLongArray((int) ((size + Long.SIZE - 1) / Long.SIZE));
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] == 0) {
+                    continue;
+                }
+                for (int bit = 0; bit < Byte.SIZE; bit++) {
+                    long index = (long) i * Byte.SIZE + bit;
+                    if (index < size && (bytes[i] & (0x80 >>> bit)) != 0) {
+                        set(index);
+                    }
+                }
+            }
+        }
+
+        private boolean get(long index) {
+            return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+        }
+
+        private void set(long index) {
+            words.getAndAccumulate((int) (index >>> 6), 1L << index, (a, b) -> a | b);
+        }
+
+        private void setAll(long[] indexes) {
+            for (long index : indexes) {
+                set(index);
+            }
+        }
+
+        private long bitCount() {
+            long count = 0L;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+
+        private void merge(Snapshot other) {
+            for (int i = 0; i < words.length(); i++) {
+                words.getAndAccumulate(i, other.words.get(i), (a, b) -> a | b);
+            }
+        }
+    }
+}
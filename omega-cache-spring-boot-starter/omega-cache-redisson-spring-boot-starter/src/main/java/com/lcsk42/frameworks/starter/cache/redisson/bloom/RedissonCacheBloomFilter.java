@@ -0,0 +1,49 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 固定容量的布隆过滤器，直接读写 Redis
+ */
+@RequiredArgsConstructor
+public class RedissonCacheBloomFilter implements CacheBloomFilter {
+
+    private final RBloomFilter<String> bloomFilter;
+    private final RedissonClient redissonClient;
+
+    @Override
+    public String getName() {
+        return bloomFilter.getName();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return bloomFilter.contains(key);
+    }
+
+    @Override
+    public void add(String key) {
+        bloomFilter.add(key);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAsync(String key) {
+        return bloomFilter.containsAsync(key).toCompletableFuture()
+                .thenApply(Boolean.TRUE::equals);
+    }
+
+    @Override
+    public CompletableFuture<Void> addAsync(String key) {
+        return bloomFilter.addAsync(key).toCompletableFuture().thenApply(ignored -> null);
+    }
+
+    @Override
+    public BloomFilterStatistics getStatistics() {
+        return BloomFilterStatistics.of(getName(), redissonClient, List.of(bloomFilter));
+    }
+}
@@ -0,0 +1,234 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定期轮换的布隆过滤器
+ * <p>
+ * 布隆过滤器无法删除元素，键空间存在删除时误判率会持续上升。本实现维护一对过滤器：查询只访问当前代，每个轮换周期由一个节点（分布式锁保证）
+ * 创建下一代，并通过 {@link BloomFilterKeySource} 重新写入全部有效键；重建期间各节点的新写入会同时进入两代，重建完成后切换当前代，
+ * 旧过滤器在宽限期后过期删除。
+ * </p>
+ * <p>
+ * 当前代与重建中的代记录在 Redis 中，各节点按维护间隔同步。每一代都使用带 {@code :gen:} 后缀的独立名称，原名称的过滤器
+ * 不参与轮换，也不会被过期删除。首次启动时尚无可用的代，查询一律视为存在（放行），由第一个维护周期立即构建第 1 代。
+ * </p>
+ */
+@Slf4j
+public class RotatingBloomFilter implements CacheBloomFilter, InitializingBean, DisposableBean {
+
+    private static final String GENERATION_SEPARATOR = ":gen:";
+    private static final String ACTIVE_GENERATION_SUFFIX = ":active";
+    private static final String BUILDING_GENERATION_SUFFIX = ":building";
+    private static final String ROTATED_AT_SUFFIX = ":rotated-at";
+    private static final String ROTATE_LOCK_SUFFIX = ":rotate-lock";
+
+    /**
+     * 代编号从 1 开始，0 表示尚未构建出当前代或没有进行中的轮换
+     */
+    private static final long NO_GENERATION = 0L;
+
+    private final RedissonClient redissonClient;
+    private final String name;
+    private final long expectedInsertions;
+    private final double falseProbability;
+    private final Duration rotationInterval;
+    private final Duration maintenanceInterval;
+    private final BloomFilterKeySource keySource;
+    private final RAtomicLong activeGeneration;
+    private final RAtomicLong buildingGeneration;
+    private final RAtomicLong rotatedAt;
+
+    private volatile RBloomFilter<String> active;
+    private volatile RBloomFilter<String> building;
+
+    private ScheduledExecutorService maintenanceExecutor;
+
+    public RotatingBloomFilter(RedissonClient redissonClient,
+            String name,
+            long expectedInsertions,
+            double falseProbability,
+            Duration rotationInterval,
+            Duration maintenanceInterval,
+            BloomFilterKeySource keySource) {
+        this.redissonClient = redissonClient;
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.falseProbability = falseProbability;
+        this.rotationInterval = rotationInterval;
+        this.maintenanceInterval = maintenanceInterval;
+        this.keySource = keySource;
+        this.activeGeneration = redissonClient.getAtomicLong(name + ACTIVE_GENERATION_SUFFIX);
+        this.buildingGeneration = redissonClient.getAtomicLong(name + BUILDING_GENERATION_SUFFIX);
+        this.rotatedAt = redissonClient.getAtomicLong(name + ROTATED_AT_SUFFIX);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 以当前时间作为上次轮换时间，避免已有可用代时启动后立即触发重建
+        rotatedAt.compareAndSet(0L, System.currentTimeMillis());
+        refreshGenerations();
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder()
+                        .prefix("cache-bloom-rotating-")
+                        .daemon(true)
+                        .build());
+        long intervalMillis = maintenanceInterval.toMillis();
+        maintenanceExecutor.scheduleWithFixedDelay(this::maintain, intervalMillis,
+                intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        RBloomFilter<String> current = active;
+        return current == null || current.contains(key);
+    }
+
+    @Override
+    public void add(String key) {
+        RBloomFilter<String> current = active;
+        if (current != null) {
+            current.add(key);
+        }
+        RBloomFilter<String> next = building;
+        if (next != null) {
+            next.add(key);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAsync(String key) {
+        RBloomFilter<String> current = active;
+        if (current == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return current.containsAsync(key).toCompletableFuture().thenApply(Boolean.TRUE::equals);
+    }
+
+    @Override
+    public CompletableFuture<Void> addAsync(String key) {
+        RBloomFilter<String> current = active;
+        CompletableFuture<Boolean> activeAdded = current == null
+                ? CompletableFuture.completedFuture(false)
+                : current.addAsync(key).toCompletableFuture();
+        RBloomFilter<String> next = building;
+        if (next == null) {
+            return activeAdded.thenApply(ignored -> null);
+        }
+        return CompletableFuture.allOf(activeAdded, next.addAsync(key).toCompletableFuture());
+    }
+
+    @Override
+    public BloomFilterStatistics getStatistics() {
+        RBloomFilter<String> current = active;
+        return BloomFilterStatistics.of(name, redissonClient,
+                current == null ? List.of() : List.of(current));
+    }
+
+    private boolean isRotationDue() {
+        return activeGeneration.get() == NO_GENERATION
+                || System.currentTimeMillis() - rotatedAt.get() >= rotationInterval.toMillis();
+    }
+
+    private void maintain() {
+        try {
+            refreshGenerations();
+            if (!isRotationDue()) {
+                return;
+            }
+            RLock lock = redissonClient.getLock(name + ROTATE_LOCK_SUFFIX);
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                // 获取锁期间其他节点可能已完成轮换
+                if (isRotationDue()) {
+                    rotate();
+                }
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.warn("[Omega] - Rotating bloom filter '{}' maintenance failed.", name, ex);
+        }
+    }
+
+    private void rotate() throws InterruptedException {
+        long current = activeGeneration.get();
+        long next = current + 1L;
+        RBloomFilter<String> nextFilter = redissonClient.getBloomFilter(generationName(next));
+        nextFilter.delete();
+        nextFilter.tryInit(expectedInsertions, falseProbability);
+        buildingGeneration.set(next);
+        building = nextFilter;
+        try {
+            // 等待一个维护间隔，使其他节点开始双写后再导入全量键
+            TimeUnit.MILLISECONDS.sleep(maintenanceInterval.toMillis());
+            long started = System.currentTimeMillis();
+            keySource.load(nextFilter::add);
+            activeGeneration.set(next);
+            rotatedAt.set(System.currentTimeMillis());
+            log.info("[Omega] - Rotating bloom filter '{}' switched to generation {} in {} ms.",
+                    name, next, System.currentTimeMillis() - started);
+        } finally {
+            buildingGeneration.set(NO_GENERATION);
+            refreshGenerations();
+        }
+        if (current == NO_GENERATION) {
+            return;
+        }
+        // 其他节点最多在一个维护间隔后切换到新一代，旧过滤器保留两个间隔后过期
+        redissonClient.getBloomFilter(generationName(current))
+                .expire(maintenanceInterval.multipliedBy(2));
+    }
+
+    private void refreshGenerations() {
+        long activeValue = activeGeneration.get();
+        RBloomFilter<String> activeFilter = active;
+        if (activeValue == NO_GENERATION) {
+            active = null;
+        } else if (activeFilter == null
+                || !activeFilter.getName().equals(generationName(activeValue))) {
+            activeFilter = redissonClient.getBloomFilter(generationName(activeValue));
+            activeFilter.tryInit(expectedInsertions, falseProbability);
+            active = activeFilter;
+        }
+        long buildingValue = buildingGeneration.get();
+        building = buildingValue == NO_GENERATION ? null
+                : redissonClient.getBloomFilter(generationName(buildingValue));
+    }
+
+    private String generationName(long generation) {
+        return name + GENERATION_SEPARATOR + generation;
+    }
+}
@@ -0,0 +1,177 @@
+package com.lcsk42.frameworks.starter.cache.redisson.bloom;
+
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 可伸缩布隆过滤器
+ * <p>
+ * 由一串子过滤器组成，写入只进入最新的子过滤器，查询时任一子过滤器命中即视为存在。 后台任务定期检查最新子过滤器的插入量，超过其预期容量后追加一个容量按
+ * growthFactor 放大、误判率按 tighteningRatio 收紧的子过滤器，整体误判率收敛于 p / (1 - r)。 子过滤器数量记录在 Redis 中，各节点共享同一条链。
+ * </p>
+ * <p>
+ * 第 0 层沿用原过滤器名称，因此可以从固定容量模式平滑切换。
+ * </p>
+ */
+@Slf4j
+public class ScalableBloomFilter implements CacheBloomFilter, InitializingBean, DisposableBean {
+
+    private static final String LAYER_SEPARATOR = ":layer:";
+    private static final String LAYER_COUNT_SUFFIX = ":layers";
+
+    private final RedissonClient redissonClient;
+    private final String name;
+    private final long initialCapacity;
+    private final double initialFalseProbability;
+    private final int growthFactor;
+    private final double tighteningRatio;
+    private final int maxLayers;
+    private final Duration maintenanceInterval;
+    private final RAtomicLong layerCount;
+
+    private volatile List<RBloomFilter<String>> layers = List.of();
+
+    private ScheduledExecutorService maintenanceExecutor;
+
+    public ScalableBloomFilter(RedissonClient redissonClient,
+            String name,
+            long initialCapacity,
+            double initialFalseProbability,
+            int growthFactor,
+            double tighteningRatio,
+            int maxLayers,
+            Duration maintenanceInterval) {
+        this.redissonClient = redissonClient;
+        this.name = name;
+        this.initialCapacity = initialCapacity;
+        this.initialFalseProbability = initialFalseProbability;
+        this.growthFactor = growthFactor;
+        this.tighteningRatio = tighteningRatio;
+        this.maxLayers = maxLayers;
+        this.maintenanceInterval = maintenanceInterval;
+        this.layerCount = redissonClient.getAtomicLong(name + LAYER_COUNT_SUFFIX);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        layerCount.compareAndSet(0L, 1L);
+        refreshLayers();
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder()
+                        .prefix("cache-bloom-scalable-")
+                        .daemon(true)
+                        .build());
+        long intervalMillis = maintenanceInterval.toMillis();
+        maintenanceExecutor.scheduleWithFixedDelay(this::maintain, intervalMillis,
+                intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        List<RBloomFilter<String>> current = layers;
+        if (current.size() == 1) {
+            return current.getFirst().contains(key);
+        }
+        // 多个子过滤器并发查询，耗时接近单次往返
+        List<RFuture<Boolean>> results = new ArrayList<>(current.size());
+        for (RBloomFilter<String> layer : current) {
+            results.add(layer.containsAsync(key));
+        }
+        return results.stream()
+                .anyMatch(each -> Boolean.TRUE.equals(each.toCompletableFuture().join()));
+    }
+
+    @Override
+    public void add(String key) {
+        layers.getLast().add(key);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAsync(String key) {
+        List<RBloomFilter<String>> current = layers;
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(current.size());
+        for (RBloomFilter<String> layer : current) {
+            results.add(layer.containsAsync(key).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> results.stream()
+                        .anyMatch(each -> Boolean.TRUE.equals(each.join())));
+    }
+
+    @Override
+    public CompletableFuture<Void> addAsync(String key) {
+        return layers.getLast().addAsync(key).toCompletableFuture().thenApply(ignored -> null);
+    }
+
+    @Override
+    public BloomFilterStatistics getStatistics() {
+        return BloomFilterStatistics.of(name, redissonClient, layers);
+    }
+
+    /**
+     * 同步其他节点追加的子过滤器，并在最新子过滤器写满时扩容
+     */
+    private void maintain() {
+        try {
+            refreshLayers();
+            List<RBloomFilter<String>> current = layers;
+            RBloomFilter<String> last = current.getLast();
+            if (current.size() >= maxLayers || last.count() < last.getExpectedInsertions()) {
+                return;
+            }
+            if (layerCount.compareAndSet(current.size(), current.size() + 1L)) {
+                log.info("[Omega] - Scalable bloom filter '{}' grown to {} layer(s).", name,
+                        current.size() + 1);
+            }
+            refreshLayers();
+        } catch (Exception ex) {
+            log.warn("[Omega] - Scalable bloom filter '{}' maintenance failed.", name, ex);
+        }
+    }
+
+    private void refreshLayers() {
+        int count = (int) Math.min(Math.max(layerCount.get(), 1L), maxLayers);
+        List<RBloomFilter<String>> current = layers;
+        if (current.size() == count) {
+            return;
+        }
+        List<RBloomFilter<String>> refreshed = new ArrayList<>(current);
+        for (int index = refreshed.size(); index < count; index++) {
+            RBloomFilter<String> layer = redissonClient.getBloomFilter(layerName(index));
+            layer.tryInit((long) (initialCapacity * Math.pow(growthFactor, index)),
+                    initialFalseProbability * Math.pow(tighteningRatio, index));
+            refreshed.add(layer);
+        }
+        layers = List.copyOf(refreshed);
+    }
+
+    private String layerName(int index) {
+        return index == 0 ? name : name + LAYER_SEPARATOR + index;
+    }
+}
@@ -1,10 +1,13 @@
 package com.lcsk42.frameworks.starter.cache.redisson.config;
 
+import com.lcsk42.frameworks.starter.cache.redisson.enums.BloomFilterMode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,4 +35,51 @@ public class BloomFilterPenetrateProperties {
      * 预期误判概率
      */
     private Double falseProbability = 0.03D;
+
+    /**
+     * 容量管理方式，ROTATING 模式需要提供 BloomFilterKeySource Bean
+     */
+    private BloomFilterMode mode = BloomFilterMode.FIXED;
+
+    /**
+     * SCALABLE 模式下每个新子过滤器相对上一层的容量倍数
+     */
+    private Integer growthFactor = 2;
+
+    /**
+     * SCALABLE 模式下每个新子过滤器相对上一层的误判率收紧比例
+     */
+    private Double tighteningRatio = 0.5D;
+
+    /**
+     * SCALABLE 模式下子过滤器的最大数量
+     */
+    private Integer maxLayers = 16;
+
+    /**
+     * SCALABLE 模式的扩容检查间隔，以及 ROTATING 模式的代同步间隔
+     */
+    private Duration maintenanceInterval = Duration.ofSeconds(10);
+
+    /**
+     * ROTATING 模式的轮换周期。每一代使用 {@code name:gen:N} 作为名称，轮换后旧的代会过期删除，
+     * 原名称的过滤器不参与轮换
+     */
+    private Duration rotationInterval = Duration.ofDays(1);
+
+    /**
+     * 是否在本地维护布隆过滤器位图镜像，开启后 safeGet 的判断在内存中完成。仅 FIXED 模式生效，
+     * SCALABLE / ROTATING 模式下开启时启动日志会给出警告并忽略该配置
+     */
+    private Boolean localMirrorEnabled = false;
+
+    /**
+     * 本地镜像从 Redis 全量同步的间隔
+     */
+    private Duration localMirrorResyncInterval = Duration.ofMinutes(5);
+
+    /**
+     * 本地镜像增量同步使用的 Pub/Sub 频道名称（会自动添加键前缀）
+     */
+    private String localMirrorTopic = "cache_bloom_filter_mirror_topic";
 }
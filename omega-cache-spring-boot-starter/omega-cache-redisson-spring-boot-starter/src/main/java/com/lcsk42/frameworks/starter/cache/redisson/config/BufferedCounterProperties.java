@@ -0,0 +1,32 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = BufferedCounterProperties.PREFIX)
+public class BufferedCounterProperties {
+
+    public static final String PREFIX = "framework.cache.redis.buffered-counter";
+
+    /**
+     * 是否开启本地聚合计数器
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 本地增量刷新到 Redis 的间隔
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 默认分片数量，大于 1 时计数分散到多个 Redis 键以分摊热点分片压力
+     */
+    private Integer defaultShards = 1;
+}
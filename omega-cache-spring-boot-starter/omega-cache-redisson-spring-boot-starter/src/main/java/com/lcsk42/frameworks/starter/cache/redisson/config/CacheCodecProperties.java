@@ -0,0 +1,39 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = CacheCodecProperties.PREFIX)
+public class CacheCodecProperties {
+
+    public static final String PREFIX = "framework.cache.redis.codec";
+
+    /**
+     * 默认的缓存值编解码器名称，内置 json、smile、cbor，也可以是自定义 CacheValueCodec Bean 的名称
+     */
+    private String defaultCodec = "json";
+
+    /**
+     * 按键前缀指定编解码器，键为缓存键前缀（不含全局前缀，YAML 中含冒号时需写成 "[user:]"），值为编解码器名称
+     */
+    private Map<String, String> keyPrefixCodecs = new LinkedHashMap<>();
+
+    /**
+     * 是否对超过阈值的缓存值进行压缩
+     */
+    private Boolean compressionEnabled = false;
+
+    /**
+     * 触发压缩的编码后大小阈值
+     */
+    private DataSize compressionThreshold = DataSize.ofKilobytes(2);
+}
@@ -0,0 +1,42 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = CacheWarmUpProperties.PREFIX)
+public class CacheWarmUpProperties {
+
+    public static final String PREFIX = "framework.cache.redis.warm-up";
+
+    /**
+     * 是否在启动时执行 CacheWarmer 预热
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 预热线程数
+     */
+    private Integer poolSize = 4;
+
+    /**
+     * 每批加载并写入的键数量
+     */
+    private Integer batchSize = 500;
+
+    /**
+     * 全集群每秒允许加载的批次数，用于保护数据源；小于等于 0 表示不限流
+     */
+    private Integer batchesPerSecond = 20;
+
+    /**
+     * 等待关键预热器完成的最长时间，超时后应用照常就绪，剩余预热在后台继续
+     */
+    private Duration criticalTimeout = Duration.ofSeconds(60);
+}
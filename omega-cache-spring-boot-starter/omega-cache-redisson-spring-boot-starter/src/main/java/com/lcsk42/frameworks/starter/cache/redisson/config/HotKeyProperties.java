@@ -0,0 +1,52 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = HotKeyProperties.PREFIX)
+public class HotKeyProperties {
+
+    public static final String PREFIX = "framework.cache.redis.hot-key";
+
+    /**
+     * 是否开启热点键探测与本地副本
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 访问采样率，取值 (0, 1]，越小开销越低、估算误差越大
+     */
+    private Double sampleRate = 0.1D;
+
+    /**
+     * 判定为热点的访问次数阈值（按采样率放大并经过衰减后的估算值）
+     */
+    private Long threshold = 1_000L;
+
+    /**
+     * 访问计数减半的周期
+     */
+    private Duration decayInterval = Duration.ofSeconds(10);
+
+    /**
+     * 最多同时跟踪的热点键数量
+     */
+    private Integer maxHotKeys = 256;
+
+    /**
+     * Count-Min Sketch 每行计数器数量
+     */
+    private Integer sketchWidth = 4096;
+
+    /**
+     * 热点键本地副本的过期时间，决定了其他节点写入后本节点的最大脏读窗口
+     */
+    private Duration localTtl = Duration.ofSeconds(3);
+}
@@ -0,0 +1,37 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = NearCacheProperties.PREFIX)
+public class NearCacheProperties {
+
+    public static final String PREFIX = "framework.cache.redis.near-cache";
+
+    /**
+     * 是否开启本地近端缓存（L1）
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 本地缓存最大条目数
+     */
+    private Long maximumSize = 10_000L;
+
+    /**
+     * 本地缓存写入后的过期时间，决定了跨节点失效消息丢失时的最大脏读窗口
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+
+    /**
+     * 失效广播使用的 Redis 发布订阅主题（会拼接键前缀）
+     */
+    private String topic = "cache_near_invalidate_topic";
+}
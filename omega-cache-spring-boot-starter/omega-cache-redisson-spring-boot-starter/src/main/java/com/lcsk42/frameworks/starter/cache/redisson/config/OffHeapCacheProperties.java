@@ -0,0 +1,43 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = OffHeapCacheProperties.PREFIX)
+public class OffHeapCacheProperties {
+
+    public static final String PREFIX = "framework.cache.redis.off-heap";
+
+    /**
+     * 是否开启堆外本地缓存
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 每个堆外缓存默认的内存容量，受 JVM 参数 -XX:MaxDirectMemorySize 限制
+     */
+    private DataSize capacity = DataSize.ofMegabytes(256);
+
+    /**
+     * 段数量（向上取整为 2 的幂），段越多锁竞争越小，但单个值不能超过一个段的容量
+     */
+    private Integer segments = 16;
+
+    /**
+     * 内存分配的块大小，较小的块减少空间浪费，较大的块减少长值的链表跳转
+     */
+    private DataSize blockSize = DataSize.ofBytes(64);
+
+    /**
+     * 默认过期时间，为 0 时不过期
+     */
+    private Duration defaultTimeout = Duration.ZERO;
+}
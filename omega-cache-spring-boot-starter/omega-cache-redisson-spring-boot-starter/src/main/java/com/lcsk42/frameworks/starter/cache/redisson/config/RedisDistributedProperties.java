@@ -30,4 +30,36 @@ public class RedisDistributedProperties {
      * 默认的时间间隔(30s)
      */
     private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * safeGet 未命中时，同一 JVM 内等待其他线程加载结果的最长时间，超时后自行获取分布式锁加载
+     */
+    private Duration singleFlightWaitTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 加载器回写缓存时过期时间的随机抖动比例，例如 0.1 表示在原过期时间上随机增加 0~10%，用于打散批量加载键的过期时间
+     */
+    private Double ttlJitterRatio = 0.0D;
+
+    /**
+     * 是否缓存空值，开启后加载结果为空的键会写入空值占位符，避免不存在的键反复穿透到数据库
+     */
+    private Boolean cacheNullValues = Boolean.FALSE;
+
+    /**
+     * 空值占位符的过期时间，应明显短于正常过期时间，以便数据补录后尽快可见
+     */
+    private Duration nullValueTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 命名空间版本号在本地的缓存时间，版本递增后其他节点最多在该时间后感知
+     */
+    private Duration namespaceVersionLocalTtl = Duration.ofSeconds(1);
+
+    /**
+     * 是否按 Redis Cluster 哈希槽对多键操作分组。开启后需要原子性的多键脚本（putIfAllAbsent）在键分布于多个槽位时直接拒绝，
+     * 相关键应使用哈希标签落在同一槽位。多键删除、计数仅在非集群连接（如按槽位路由的代理）上按槽位分组并以管道发出，
+     * 原生集群连接（Lettuce、Jedis）由驱动自行按槽位拆分，不额外分组
+     */
+    private Boolean clusterSlotGrouping = Boolean.FALSE;
 }
@@ -1,21 +1,82 @@
 package com.lcsk42.frameworks.starter.cache.redisson.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodec;
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodecResolver;
+import com.lcsk42.frameworks.starter.cache.core.codec.CompressingCacheValueCodec;
+import com.lcsk42.frameworks.starter.cache.core.codec.JacksonCacheValueCodec;
 import com.lcsk42.frameworks.starter.cache.core.serializer.RedisKeySerializer;
+import com.lcsk42.frameworks.starter.cache.core.warmup.CacheWarmer;
+import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.NearDistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.RedissonAsyncDistributedCache;
 import com.lcsk42.frameworks.starter.cache.redisson.StringRedisTemplateProxy;
+import com.lcsk42.frameworks.starter.cache.redisson.aop.OmegaCacheAspect;
+import com.lcsk42.frameworks.starter.cache.redisson.actuator.BloomFilterMetrics;
+import com.lcsk42.frameworks.starter.cache.redisson.actuator.HotKeyEndpoint;
+import com.lcsk42.frameworks.starter.cache.redisson.actuator.LuaScriptMetrics;
+import com.lcsk42.frameworks.starter.cache.redisson.actuator.OffHeapCacheMetrics;
+import com.lcsk42.frameworks.starter.cache.redisson.actuator.WriteBehindMetrics;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.BloomFilterKeySource;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.CacheBloomFilter;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.LocalBloomFilterMirror;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.RedissonCacheBloomFilter;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.RotatingBloomFilter;
+import com.lcsk42.frameworks.starter.cache.redisson.bloom.ScalableBloomFilter;
+import com.lcsk42.frameworks.starter.cache.redisson.counter.BufferedCounterRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.enums.BloomFilterMode;
+import com.lcsk42.frameworks.starter.cache.redisson.hotkey.HotKeyReplicator;
+import com.lcsk42.frameworks.starter.cache.redisson.namespace.CacheNamespaceVersions;
+import com.lcsk42.frameworks.starter.cache.redisson.offheap.OffHeapCacheFactory;
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.segment.RedisSegmentFetcher;
+import com.lcsk42.frameworks.starter.cache.redisson.snowflake.WorkerIdLeaseRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.warmup.CacheWarmUpRunner;
+import com.lcsk42.frameworks.starter.cache.redisson.writebehind.WriteBehindBufferFactory;
+import com.lcsk42.frameworks.starter.common.config.SegmentIdProperties;
+import com.lcsk42.frameworks.starter.common.segment.SegmentFetcher;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBloomFilter;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateType;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Slf4j
 @AllArgsConstructor
 @EnableConfigurationProperties({RedisDistributedProperties.class,
-        BloomFilterPenetrateProperties.class})
+        BloomFilterPenetrateProperties.class, NearCacheProperties.class,
+        RefreshAheadProperties.class, CacheCodecProperties.class, HotKeyProperties.class,
+        CacheWarmUpProperties.class, WriteBehindProperties.class,
+        BufferedCounterProperties.class, OffHeapCacheProperties.class,
+        WorkerIdLeaseProperties.class})
+@Import({RedissonAutoConfiguration.HotKeyEndpointConfiguration.class,
+        RedissonAutoConfiguration.LuaScriptMetricsConfiguration.class,
+        RedissonAutoConfiguration.WriteBehindMetricsConfiguration.class,
+        RedissonAutoConfiguration.OffHeapCacheMetricsConfiguration.class,
+        RedissonAutoConfiguration.BloomFilterMetricsConfiguration.class})
 public class RedissonAutoConfiguration {
     private final RedisDistributedProperties redisDistributedProperties;
 
@@ -31,6 +92,9 @@ public class RedissonAutoConfiguration {
 
     /**
      * Bloom filter to prevent cache penetration
+     * <p>
+     * SCALABLE / ROTATING 模式下该 Bean 仅作为 safeGet / safePut 的过滤器标识，读写由 CacheBloomFilter 完成，不应直接调用
+     * </p>
      */
     @Bean
     @ConditionalOnProperty(prefix = BloomFilterPenetrateProperties.PREFIX, name = "enabled",
@@ -44,12 +108,326 @@ public class RedissonAutoConfiguration {
         return cachePenetrationBloomFilter;
     }
 
+    /**
+     * 防穿透布隆过滤器的容量管理实现，safeGet / safePut 遇到默认布隆过滤器时经由它读写
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = BloomFilterPenetrateProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public CacheBloomFilter cachePenetrationCacheBloomFilter(
+            RBloomFilter<String> cachePenetrationBloomFilter, RedissonClient redissonClient,
+            BloomFilterPenetrateProperties properties,
+            ObjectProvider<BloomFilterKeySource> bloomFilterKeySource) {
+        if (Boolean.TRUE.equals(properties.getLocalMirrorEnabled())
+                && properties.getMode() != BloomFilterMode.FIXED) {
+            log.warn("[Omega] - Bloom filter local mirror only supports FIXED mode, "
+                    + "ignored in {} mode.", properties.getMode());
+        }
+        return switch (properties.getMode()) {
+            case SCALABLE -> new ScalableBloomFilter(redissonClient, properties.getName(),
+                    properties.getExpectedInsertions(), properties.getFalseProbability(),
+                    properties.getGrowthFactor(), properties.getTighteningRatio(),
+                    properties.getMaxLayers(), properties.getMaintenanceInterval());
+            case ROTATING -> {
+                BloomFilterKeySource keySource = bloomFilterKeySource.getIfAvailable();
+                if (keySource == null) {
+                    throw new IllegalStateException(
+                            "Rotating bloom filter requires a BloomFilterKeySource bean");
+                }
+                yield new RotatingBloomFilter(redissonClient, properties.getName(),
+                        properties.getExpectedInsertions(), properties.getFalseProbability(),
+                        properties.getRotationInterval(), properties.getMaintenanceInterval(),
+                        keySource);
+            }
+            case FIXED -> Boolean.TRUE.equals(properties.getLocalMirrorEnabled())
+                    ? new LocalBloomFilterMirror(cachePenetrationBloomFilter, redissonClient,
+                            redisDistributedProperties.getPrefix()
+                                    + properties.getLocalMirrorTopic(),
+                            properties.getLocalMirrorResyncInterval())
+                    : new RedissonCacheBloomFilter(cachePenetrationBloomFilter, redissonClient);
+        };
+    }
+
+    /**
+     * 缓存值编解码器选择器，内置 json、smile、cbor，同名的自定义 CacheValueCodec Bean 优先
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheValueCodecResolver cacheValueCodecResolver(ObjectMapper objectMapper,
+            CacheCodecProperties cacheCodecProperties,
+            ObjectProvider<CacheValueCodec> customCodecs) {
+        Map<String, CacheValueCodec> codecs = new HashMap<>();
+        codecs.put(JacksonCacheValueCodec.JSON, JacksonCacheValueCodec.json(objectMapper));
+        codecs.put(JacksonCacheValueCodec.SMILE, JacksonCacheValueCodec.smile(objectMapper));
+        codecs.put(JacksonCacheValueCodec.CBOR, JacksonCacheValueCodec.cbor(objectMapper));
+        customCodecs.orderedStream().forEach(each -> codecs.put(each.getName(), each));
+        if (Boolean.TRUE.equals(cacheCodecProperties.getCompressionEnabled())) {
+            int threshold = (int) cacheCodecProperties.getCompressionThreshold().toBytes();
+            codecs.replaceAll((name, codec) -> new CompressingCacheValueCodec(codec, threshold));
+        }
+        Map<String, CacheValueCodec> prefixCodecs = new LinkedHashMap<>();
+        cacheCodecProperties.getKeyPrefixCodecs().forEach((prefix, name) -> prefixCodecs
+                .put(prefix, getCodec(codecs, name)));
+        return new CacheValueCodecResolver(
+                getCodec(codecs, cacheCodecProperties.getDefaultCodec()), prefixCodecs);
+    }
+
+    /**
+     * Lua 脚本注册中心，启动完成后预加载所有已注册脚本
+     */
+    @Bean
+    public LuaScriptRegistry luaScriptRegistry(StringRedisTemplate stringRedisTemplate) {
+        return new LuaScriptRegistry(stringRedisTemplate);
+    }
+
     @Bean
     public StringRedisTemplateProxy stringRedisTemplateProxy(RedisKeySerializer redisKeySerializer,
-            StringRedisTemplate stringRedisTemplate, RedissonClient redissonClient) {
+            StringRedisTemplate stringRedisTemplate, RedissonClient redissonClient,
+            RefreshAheadProperties refreshAheadProperties,
+            CacheValueCodecResolver cacheValueCodecResolver, LuaScriptRegistry luaScriptRegistry,
+            ObjectProvider<HotKeyReplicator> hotKeyReplicator,
+            ObjectProvider<CacheBloomFilter> cacheBloomFilter) {
         stringRedisTemplate.setKeySerializer(redisKeySerializer);
+        // 提前刷新专用的有界线程池，由代理在销毁时关闭，不作为 Executor Bean 暴露以免影响全局任务执行器
+        ThreadPoolExecutor refreshAheadExecutor = ThreadPoolBuilder.builder()
+                .corePoolSize(refreshAheadProperties.getCorePoolSize())
+                .maximumPoolSize(refreshAheadProperties.getMaximumPoolSize())
+                .workQueue(new LinkedBlockingQueue<>(refreshAheadProperties.getQueueCapacity()))
+                .threadFactory("cache-refresh-ahead-", true)
+                .build();
         return new StringRedisTemplateProxy(stringRedisTemplate, redisDistributedProperties,
-                redissonClient);
+                redissonClient, refreshAheadProperties, refreshAheadExecutor,
+                cacheValueCodecResolver, luaScriptRegistry, hotKeyReplicator.getIfAvailable(),
+                cacheBloomFilter.getIfAvailable());
+    }
+
+    /**
+     * 热点键探测与本地副本
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = HotKeyProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public HotKeyReplicator hotKeyReplicator(HotKeyProperties hotKeyProperties) {
+        return new HotKeyReplicator(hotKeyProperties);
+    }
+
+    /**
+     * 非阻塞缓存，与 StringRedisTemplateProxy 共享键前缀与值编码
+     */
+    @Bean
+    public RedissonAsyncDistributedCache redissonAsyncDistributedCache(
+            RedissonClient redissonClient, CacheValueCodecResolver cacheValueCodecResolver,
+            ObjectProvider<CacheBloomFilter> cacheBloomFilter,
+            ObjectProvider<HotKeyReplicator> hotKeyReplicator,
+            ObjectProvider<NearDistributedCache> nearDistributedCache) {
+        return new RedissonAsyncDistributedCache(redissonClient, redisDistributedProperties,
+                cacheValueCodecResolver, cacheBloomFilter.getIfAvailable(),
+                hotKeyReplicator.getIfAvailable(), nearDistributedCache.getIfAvailable());
+    }
+
+    /**
+     * 命名空间版本管理，用于按命名空间整体失效缓存
+     */
+    @Bean
+    public CacheNamespaceVersions cacheNamespaceVersions(RedissonClient redissonClient) {
+        return new CacheNamespaceVersions(redissonClient, redisDistributedProperties.getPrefix(),
+                redisDistributedProperties.getNamespaceVersionLocalTtl());
+    }
+
+    /**
+     * {@code @OmegaCacheable} / {@code @OmegaCacheEvict} 注解切面
+     */
+    @Bean
+    public OmegaCacheAspect omegaCacheAspect(DistributedCache distributedCache,
+            RedissonAsyncDistributedCache redissonAsyncDistributedCache,
+            @Qualifier("cachePenetrationBloomFilter")
+            ObjectProvider<RBloomFilter<String>> bloomFilter) {
+        return new OmegaCacheAspect(distributedCache, redissonAsyncDistributedCache,
+                bloomFilter.getIfAvailable());
+    }
+
+    /**
+     * 二级近端缓存（本地 L1 + Redis L2），开启后作为首选的 DistributedCache 注入
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = NearCacheProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public NearDistributedCache nearDistributedCache(
+            StringRedisTemplateProxy stringRedisTemplateProxy, RedissonClient redissonClient,
+            NearCacheProperties nearCacheProperties) {
+        return new NearDistributedCache(stringRedisTemplateProxy, redissonClient,
+                nearCacheProperties, redisDistributedProperties.getPrefix());
+    }
+
+    /**
+     * 启动预热引擎，在应用就绪前执行关键 CacheWarmer
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = CacheWarmUpProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public CacheWarmUpRunner cacheWarmUpRunner(DistributedCache distributedCache,
+            RedissonClient redissonClient, CacheWarmUpProperties cacheWarmUpProperties,
+            ObjectProvider<CacheWarmer<?>> cacheWarmers) {
+        List<CacheWarmer<?>> warmers = cacheWarmers.orderedStream().toList();
+        ThreadPoolExecutor warmUpExecutor = ThreadPoolBuilder.builder()
+                .corePoolSize(cacheWarmUpProperties.getPoolSize())
+                .maximumPoolSize(cacheWarmUpProperties.getPoolSize())
+                .workQueue(new LinkedBlockingQueue<>(Math.max(warmers.size(), 1)))
+                .threadFactory("cache-warm-up-", true)
+                .build();
+        RRateLimiter rateLimiter = null;
+        if (cacheWarmUpProperties.getBatchesPerSecond() > 0) {
+            rateLimiter = redissonClient.getRateLimiter(
+                    redisDistributedProperties.getPrefix() + "cache_warm_up_rate_limiter");
+            rateLimiter.setRate(RateType.OVERALL, cacheWarmUpProperties.getBatchesPerSecond(),
+                    Duration.ofSeconds(1));
+        }
+        return new CacheWarmUpRunner(distributedCache, warmers, cacheWarmUpProperties,
+                warmUpExecutor, rateLimiter);
+    }
+
+    /**
+     * 写后回写缓冲区工厂
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WriteBehindProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public WriteBehindBufferFactory writeBehindBufferFactory(DistributedCache distributedCache,
+            WriteBehindProperties writeBehindProperties) {
+        return new WriteBehindBufferFactory(distributedCache, writeBehindProperties);
+    }
+
+    /**
+     * 本地聚合计数器，依赖 stringRedisTemplateProxy 为 StringRedisTemplate 设置的键前缀序列化器
+     */
+    @Bean
+    @DependsOn("stringRedisTemplateProxy")
+    @ConditionalOnProperty(prefix = BufferedCounterProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public BufferedCounterRegistry bufferedCounterRegistry(StringRedisTemplate stringRedisTemplate,
+            BufferedCounterProperties bufferedCounterProperties) {
+        return new BufferedCounterRegistry(stringRedisTemplate, bufferedCounterProperties);
+    }
+
+    /**
+     * 号段 ID 生成器使用的 Redis 号段获取实现，应用自行声明 SegmentFetcher（如 JdbcSegmentFetcher）时不生效
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = SegmentIdProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public SegmentFetcher redisSegmentFetcher(RedissonClient redissonClient) {
+        return new RedisSegmentFetcher(redissonClient, redisDistributedProperties.getPrefix());
+    }
+
+    /**
+     * Snowflake worker ID 租约，依赖 stringRedisTemplateProxy 为 StringRedisTemplate 设置的键前缀序列化器。
+     * 租约注册前若已有组件获取了默认的 Snowflake 实例，启动失败，此类组件应通过 IdUtil.getSnowflake() 延迟获取
+     */
+    @Bean
+    @DependsOn("stringRedisTemplateProxy")
+    @ConditionalOnProperty(prefix = WorkerIdLeaseProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public WorkerIdLeaseRegistry workerIdLeaseRegistry(StringRedisTemplate stringRedisTemplate,
+            LuaScriptRegistry luaScriptRegistry,
+            WorkerIdLeaseProperties workerIdLeaseProperties) {
+        return new WorkerIdLeaseRegistry(stringRedisTemplate, luaScriptRegistry,
+                workerIdLeaseProperties);
+    }
+
+    /**
+     * 堆外本地缓存工厂，值使用默认编解码器序列化
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = OffHeapCacheProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public OffHeapCacheFactory offHeapCacheFactory(CacheValueCodecResolver cacheValueCodecResolver,
+            OffHeapCacheProperties offHeapCacheProperties) {
+        return new OffHeapCacheFactory(cacheValueCodecResolver.getDefaultCodec(),
+                offHeapCacheProperties);
+    }
+
+    /**
+     * 热点键 Actuator 端点，仅在引入 Actuator 且开启热点探测时注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = HotKeyProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    static class HotKeyEndpointConfiguration {
+
+        @Bean
+        public HotKeyEndpoint hotKeyEndpoint(HotKeyReplicator hotKeyReplicator) {
+            return new HotKeyEndpoint(hotKeyReplicator);
+        }
+    }
+
+    /**
+     * Lua 脚本 Micrometer 指标，仅在引入 Micrometer 时注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class LuaScriptMetricsConfiguration {
+
+        @Bean
+        public LuaScriptMetrics luaScriptMetrics(LuaScriptRegistry luaScriptRegistry) {
+            return new LuaScriptMetrics(luaScriptRegistry);
+        }
+    }
+
+    /**
+     * 布隆过滤器 Micrometer 指标，仅在引入 Micrometer 且开启默认布隆过滤器时注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnProperty(prefix = BloomFilterPenetrateProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    static class BloomFilterMetricsConfiguration {
+
+        @Bean
+        public BloomFilterMetrics cacheBloomFilterMetrics(CacheBloomFilter cacheBloomFilter) {
+            return new BloomFilterMetrics(cacheBloomFilter);
+        }
+    }
+
+    /**
+     * 写后回写 Micrometer 指标，仅在引入 Micrometer 且开启写后回写时注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnProperty(prefix = WriteBehindProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    static class WriteBehindMetricsConfiguration {
+
+        @Bean
+        public WriteBehindMetrics writeBehindMetrics(
+                WriteBehindBufferFactory writeBehindBufferFactory) {
+            return new WriteBehindMetrics(writeBehindBufferFactory);
+        }
+    }
+
+    /**
+     * 堆外缓存 Micrometer 指标，仅在引入 Micrometer 且开启堆外缓存时注册
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnProperty(prefix = OffHeapCacheProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    static class OffHeapCacheMetricsConfiguration {
+
+        @Bean
+        public OffHeapCacheMetrics offHeapCacheMetrics(OffHeapCacheFactory offHeapCacheFactory) {
+            return new OffHeapCacheMetrics(offHeapCacheFactory);
+        }
+    }
+
+    private CacheValueCodec getCodec(Map<String, CacheValueCodec> codecs, String name) {
+        CacheValueCodec codec = codecs.get(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown cache value codec: " + name);
+        }
+        return codec;
     }
 
     @PostConstruct
@@ -0,0 +1,42 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = RefreshAheadProperties.PREFIX)
+public class RefreshAheadProperties {
+
+    public static final String PREFIX = "framework.cache.redis.refresh-ahead";
+
+    /**
+     * XFetch 提前刷新系数，越大越早触发刷新（1.0 为论文推荐值）
+     */
+    private Double beta = 1.0D;
+
+    /**
+     * 逻辑过期后继续保留旧值的时间，在此窗口内读取返回旧值并异步重建
+     */
+    private Duration staleWindow = Duration.ofSeconds(60);
+
+    /**
+     * 异步刷新线程池核心线程数
+     */
+    private Integer corePoolSize = 2;
+
+    /**
+     * 异步刷新线程池最大线程数
+     */
+    private Integer maximumPoolSize = 4;
+
+    /**
+     * 异步刷新任务队列容量，队列满时放弃本次刷新（继续返回旧值）
+     */
+    private Integer queueCapacity = 1024;
+}
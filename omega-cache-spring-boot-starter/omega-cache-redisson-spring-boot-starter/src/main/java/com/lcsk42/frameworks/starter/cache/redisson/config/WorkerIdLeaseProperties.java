@@ -0,0 +1,27 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = WorkerIdLeaseProperties.PREFIX)
+public class WorkerIdLeaseProperties {
+
+    public static final String PREFIX = "framework.cache.redis.worker-id";
+
+    /**
+     * 是否通过 Redis 租用 Snowflake worker ID，开启后 IdUtil.getSnowflake() 使用租用到的 ID
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 租约有效期，每隔三分之一有效期续约一次；实例异常退出后该 ID 在租约过期后可被其他实例重新租用
+     */
+    private Duration leaseTime = Duration.ofSeconds(60);
+}
@@ -0,0 +1,38 @@
+package com.lcsk42.frameworks.starter.cache.redisson.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = WriteBehindProperties.PREFIX)
+public class WriteBehindProperties {
+
+    public static final String PREFIX = "framework.cache.redis.write-behind";
+
+    /**
+     * 是否开启写后回写
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 定时回写间隔
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 单批回写的最大键数量，待回写的键达到该数量时立即触发一次回写
+     */
+    private Integer maxBatchSize = 500;
+
+    /**
+     * 每个缓冲区待回写键数量的上限，超出时由写入线程同步回写以限制内存占用。回写器持续失败时，失败批次最多放回到该数量（其余键丢弃），
+     * 一个回写间隔的退避期内缓冲区已满时拒绝新键的写入
+     */
+    private Integer maxPending = 10_000;
+}
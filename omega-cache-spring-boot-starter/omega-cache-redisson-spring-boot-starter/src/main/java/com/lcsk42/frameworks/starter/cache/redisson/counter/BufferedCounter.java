@@ -0,0 +1,152 @@
+package com.lcsk42.frameworks.starter.cache.redisson.counter;
+
+import lombok.Getter;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 本地聚合计数器
+ * <p>
+ * 增量先累加到本地 {@link LongAdder}，由 {@link BufferedCounterRegistry} 定期以 INCRBY 批量刷新到 Redis。 分片数大于 1 时，
+ * 每次刷新随机选择一个分片键（{@code key:shard}）写入，读取时汇总所有分片。
+ * </p>
+ */
+public class BufferedCounter {
+
+    private static final String SHARD_SEPARATOR = ":";
+
+    @Getter
+    private final String key;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final List<String> shardKeys;
+    private final LongAdder pending = new LongAdder();
+
+    /**
+     * 各分片最近一次刷新后得到的 Redis 值
+     */
+    private final AtomicLongArray lastKnownShards;
+
+    /**
+     * 分片值是否已从 Redis 同步过
+     */
+    private volatile boolean synced;
+
+    BufferedCounter(String key, int shards, StringRedisTemplate stringRedisTemplate) {
+        this.key = key;
+        this.stringRedisTemplate = stringRedisTemplate;
+        List<String> keys = new ArrayList<>(shards);
+        if (shards <= 1) {
+            keys.add(key);
+        } else {
+            for (int shard = 0; shard < shards; shard++) {
+                keys.add(key + SHARD_SEPARATOR + shard);
+            }
+        }
+        this.shardKeys = List.copyOf(keys);
+        this.lastKnownShards = new AtomicLongArray(shardKeys.size());
+    }
+
+    /**
+     * 计数加一
+     */
+    public void increment() {
+        pending.increment();
+    }
+
+    /**
+     * 累加增量
+     */
+    public void add(long delta) {
+        pending.add(delta);
+    }
+
+    /**
+     * 近似值：各分片最近已知的 Redis 值加上本地尚未刷新的增量。分片值在本节点每次刷新该计数器或调用 {@link #getExact()} 时同步；
+     * 从未同步过时（如本节点只读不写）先读取一次 Redis
+     */
+    public long getApproximate() {
+        if (!synced) {
+            return getExact();
+        }
+        long sum = pending.sum();
+        for (int shard = 0; shard < lastKnownShards.length(); shard++) {
+            sum += lastKnownShards.get(shard);
+        }
+        return sum;
+    }
+
+    /**
+     * 精确值：读取 Redis 中所有分片并加上本地尚未刷新的增量（其他节点未刷新的增量不可见）
+     */
+    public long getExact() {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(shardKeys);
+        long sum = pending.sum();
+        if (values == null) {
+            return sum;
+        }
+        for (int shard = 0; shard < values.size(); shard++) {
+            long value = NumberUtils.toLong(values.get(shard));
+            lastKnownShards.set(shard, value);
+            sum += value;
+        }
+        synced = true;
+        return sum;
+    }
+
+    /**
+     * 取出本地增量
+     */
+    long drain() {
+        return pending.sumThenReset();
+    }
+
+    /**
+     * 刷新失败时归还增量
+     */
+    void restore(long delta) {
+        pending.add(delta);
+    }
+
+    /**
+     * 选择本次刷新写入的分片
+     */
+    int nextShard() {
+        return shardKeys.size() == 1 ? 0 : ThreadLocalRandom.current().nextInt(shardKeys.size());
+    }
+
+    int shardCount() {
+        return shardKeys.size();
+    }
+
+    String shardKey(int shard) {
+        return shardKeys.get(shard);
+    }
+
+    /**
+     * 更新分片的已知值，值为 null 表示分片键不存在。管道部分失败时结果未经反序列化，可能为字节数组
+     */
+    void updateShard(int shard, Object value) {
+        if (value instanceof Number number) {
+            lastKnownShards.set(shard, number.longValue());
+        } else if (value instanceof byte[] bytes) {
+            lastKnownShards.set(shard,
+                    NumberUtils.toLong(new String(bytes, StandardCharsets.UTF_8)));
+        } else {
+            lastKnownShards.set(shard, value == null ? 0L : NumberUtils.toLong(value.toString()));
+        }
+    }
+
+    /**
+     * 所有分片均已在一次刷新中同步
+     */
+    void markSynced() {
+        synced = true;
+    }
+}
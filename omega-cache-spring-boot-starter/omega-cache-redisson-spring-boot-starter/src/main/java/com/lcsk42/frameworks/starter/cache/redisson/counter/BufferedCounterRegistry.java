@@ -0,0 +1,184 @@
+package com.lcsk42.frameworks.starter.cache.redisson.counter;
+
+import com.lcsk42.frameworks.starter.cache.redisson.config.BufferedCounterProperties;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地聚合计数器注册中心
+ * <p>
+ * 按固定间隔收集所有计数器的本地增量，在一次管道中以 INCRBY 写入 Redis，将大量单次 INCR 合并为每个刷新周期每个键一条命令。
+ * 分片计数器在同一管道中顺带读取其余分片，使 {@link BufferedCounter#getApproximate()} 反映所有分片的最近值。应用关闭时完成最后一次刷新。
+ * </p>
+ * <p>
+ * 刷新语义为至少一次（at-least-once）：管道部分失败时只归还失败或没有返回结果的命令对应的增量；整个管道失败（如连接在命令发出后断开）时
+ * 无法确认哪些命令已被执行，全部增量归还并在下一周期重试，此时可能重复计数。
+ * </p>
+ */
+@Slf4j
+public class BufferedCounterRegistry implements SmartLifecycle {
+
+    /**
+     * 晚于 Web 服务器（优雅）停止
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BufferedCounterProperties properties;
+    private final ConcurrentHashMap<String, BufferedCounter> counters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public BufferedCounterRegistry(StringRedisTemplate stringRedisTemplate,
+            BufferedCounterProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 获取使用默认分片数量的计数器
+     */
+    public BufferedCounter counter(String key) {
+        return counter(key, properties.getDefaultShards());
+    }
+
+    /**
+     * 获取计数器，同一键的分片数量以首次获取时为准
+     *
+     * @param key 缓存键
+     * @param shards 分片数量
+     */
+    public BufferedCounter counter(String key, int shards) {
+        return counters.computeIfAbsent(key,
+                each -> new BufferedCounter(each, shards, stringRedisTemplate));
+    }
+
+    /**
+     * 立即将所有计数器的本地增量刷新到 Redis
+     */
+    public synchronized void flush() {
+        List<BufferedCounter> flushed = new ArrayList<>();
+        List<Integer> shards = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (BufferedCounter counter : counters.values()) {
+            long delta = counter.drain();
+            if (delta != 0L) {
+                flushed.add(counter);
+                shards.add(counter.nextShard());
+                deltas.add(delta);
+            }
+        }
+        if (flushed.isEmpty()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        RedisSerializer<String> keySerializer =
+                (RedisSerializer<String>) stringRedisTemplate.getKeySerializer();
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined(
+                    (RedisCallback<Object>) connection -> {
+                        for (int i = 0; i < flushed.size(); i++) {
+                            BufferedCounter counter = flushed.get(i);
+                            int shard = shards.get(i);
+                            connection.stringCommands().incrBy(
+                                    keySerializer.serialize(counter.shardKey(shard)),
+                                    deltas.get(i));
+                            for (int other = 0; other < counter.shardCount(); other++) {
+                                if (other != shard) {
+                                    connection.stringCommands().get(
+                                            keySerializer.serialize(counter.shardKey(other)));
+                                }
+                            }
+                        }
+                        return null;
+                    });
+        } catch (RedisPipelineException ex) {
+            results = ex.getPipelineResult();
+            log.warn("[Omega] - Partially failed to flush buffered counters.", ex);
+        } catch (Exception ex) {
+            for (int i = 0; i < flushed.size(); i++) {
+                flushed.get(i).restore(deltas.get(i));
+            }
+            log.warn("[Omega] - Failed to flush {} buffered counter(s).", flushed.size(), ex);
+            return;
+        }
+        applyResults(flushed, shards, deltas, results);
+    }
+
+    /**
+     * 按命令顺序处理管道结果：每个计数器依次对应一条 INCRBY 与其余分片的 GET，失败或缺失的 INCRBY 归还增量
+     */
+    private void applyResults(List<BufferedCounter> flushed, List<Integer> shards,
+            List<Long> deltas, List<Object> results) {
+        int offset = 0;
+        for (int i = 0; i < flushed.size(); i++) {
+            BufferedCounter counter = flushed.get(i);
+            int shard = shards.get(i);
+            Object incremented = offset < results.size() ? results.get(offset) : null;
+            offset++;
+            boolean synced = incremented != null && !(incremented instanceof Throwable);
+            if (synced) {
+                counter.updateShard(shard, incremented);
+            } else {
+                counter.restore(deltas.get(i));
+            }
+            for (int other = 0; other < counter.shardCount(); other++) {
+                if (other == shard) {
+                    continue;
+                }
+                if (offset < results.size() && !(results.get(offset) instanceof Throwable)) {
+                    counter.updateShard(other, results.get(offset));
+                } else {
+                    synced = false;
+                }
+                offset++;
+            }
+            if (synced) {
+                counter.markSynced();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("cache-buffered-counter-")
+                .daemon(true)
+                .build());
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
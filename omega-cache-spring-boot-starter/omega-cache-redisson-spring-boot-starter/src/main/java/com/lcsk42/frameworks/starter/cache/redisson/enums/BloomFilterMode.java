@@ -0,0 +1,23 @@
+package com.lcsk42.frameworks.starter.cache.redisson.enums;
+
+/**
+ * 防穿透布隆过滤器的容量管理方式
+ */
+public enum BloomFilterMode {
+
+    /**
+     * 固定容量，初始化后不再扩容
+     */
+    FIXED,
+
+    /**
+     * 可伸缩，插入量超过当前容量时追加更大的子过滤器
+     */
+    SCALABLE,
+
+    /**
+     * 定期轮换，按周期从数据源重建新过滤器并切换，适用于存在删除的键空间
+     */
+    ROTATING,
+    ;
+}
@@ -0,0 +1,81 @@
+package com.lcsk42.frameworks.starter.cache.redisson.hotkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lcsk42.frameworks.starter.cache.core.hotkey.HotKeyDetector;
+import com.lcsk42.frameworks.starter.cache.redisson.config.HotKeyProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * 热点键本地副本
+ * <p>
+ * 对经过 StringRedisTemplateProxy 读取的键进行热点探测，热点键的原始值在本地保存一个短期副本，后续读取直接命中本地，
+ * 不再访问同一个 Redis 分片。本节点写入时立即失效副本，其他节点的写入依赖副本的短过期时间收敛。
+ * </p>
+ */
+@Slf4j
+public class HotKeyReplicator {
+
+    private final HotKeyDetector detector;
+
+    private final Cache<String, byte[]> localCopies;
+
+    public HotKeyReplicator(HotKeyProperties properties) {
+        this.detector = new HotKeyDetector(properties.getSampleRate(), properties.getThreshold(),
+                properties.getDecayInterval(), properties.getMaxHotKeys(),
+                properties.getSketchWidth());
+        this.localCopies = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxHotKeys())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+    }
+
+    /**
+     * 获取热点键的本地副本
+     *
+     * @param key 缓存键
+     * @return 原始值，不是热点或副本已过期时返回 null
+     */
+    public byte[] getLocal(String key) {
+        return localCopies.getIfPresent(key);
+    }
+
+    /**
+     * 记录一次来自 Redis 的读取，热点键的值会被复制到本地
+     *
+     * @param key 缓存键
+     * @param value 从 Redis 读取的原始值
+     */
+    public void onRemoteRead(String key, byte[] value) {
+        if (detector.record(key)) {
+            log.info("[Omega] - Hot key '{}' promoted to local replica, estimated hits: {}.", key,
+                    detector.hotKeys().get(key));
+        }
+        if (value != null && detector.isHot(key)) {
+            localCopies.put(key, value);
+        }
+    }
+
+    /**
+     * 失效本地副本
+     */
+    public void invalidate(String key) {
+        localCopies.invalidate(key);
+    }
+
+    /**
+     * 当前热点键及其估算访问次数
+     */
+    public Map<String, Long> getHotKeys() {
+        return detector.hotKeys();
+    }
+
+    /**
+     * 当前持有本地副本的键数量
+     */
+    public long getLocalCopyCount() {
+        return localCopies.estimatedSize();
+    }
+}
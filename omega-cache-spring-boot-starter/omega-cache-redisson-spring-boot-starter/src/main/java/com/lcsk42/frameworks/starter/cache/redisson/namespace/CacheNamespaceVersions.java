@@ -0,0 +1,70 @@
+package com.lcsk42.frameworks.starter.cache.redisson.namespace;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lcsk42.frameworks.starter.core.util.CacheUtil;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+
+/**
+ * 命名空间版本管理
+ * <p>
+ * 每个命名空间在 Redis 中维护一个版本计数器，通过 {@link #buildKey(String, String...)} 构建的键会携带当前版本。
+ * 调用 {@link #bump(String)} 递增版本即可在 O(1) 时间内使整个命名空间的键失效，旧版本的键随过期时间自然淘汰。
+ * 版本号在本地缓存一个较短的时间，其他节点在该时间内完成收敛。
+ * </p>
+ */
+public class CacheNamespaceVersions {
+
+    private static final String VERSION_KEY_PREFIX = "cache_namespace_version:";
+    private static final long MAXIMUM_LOCAL_NAMESPACES = 10_000L;
+
+    private final RedissonClient redissonClient;
+    private final String keyPrefix;
+    private final Cache<String, Long> localVersions;
+
+    public CacheNamespaceVersions(RedissonClient redissonClient, String keyPrefix,
+            Duration localTtl) {
+        this.redissonClient = redissonClient;
+        this.keyPrefix = keyPrefix;
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_LOCAL_NAMESPACES)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * 构建携带命名空间当前版本的缓存键
+     *
+     * @param namespace 命名空间，例如租户或实体类型
+     * @param keys 要连接成缓存键的键
+     * @return 构造的缓存键
+     */
+    public String buildKey(String namespace, String... keys) {
+        return CacheUtil.buildVersionedKey(namespace, getVersion(namespace), keys);
+    }
+
+    /**
+     * 获取命名空间当前版本，优先读取本地缓存
+     */
+    public long getVersion(String namespace) {
+        return localVersions.get(namespace, each -> versionCounter(each).get());
+    }
+
+    /**
+     * 递增命名空间版本，使该命名空间下的所有键失效
+     *
+     * @return 递增后的版本
+     */
+    public long bump(String namespace) {
+        long version = versionCounter(namespace).incrementAndGet();
+        localVersions.put(namespace, version);
+        return version;
+    }
+
+    private RAtomicLong versionCounter(String namespace) {
+        return redissonClient.getAtomicLong(keyPrefix + VERSION_KEY_PREFIX + namespace);
+    }
+}
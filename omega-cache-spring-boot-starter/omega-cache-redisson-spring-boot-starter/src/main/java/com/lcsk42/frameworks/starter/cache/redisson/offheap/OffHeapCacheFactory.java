@@ -0,0 +1,80 @@
+package com.lcsk42.frameworks.starter.cache.redisson.offheap;
+
+import com.lcsk42.frameworks.starter.cache.core.codec.CacheValueCodec;
+import com.lcsk42.frameworks.starter.cache.core.offheap.OffHeapCache;
+import com.lcsk42.frameworks.starter.cache.redisson.config.OffHeapCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 堆外缓存工厂
+ * <p>
+ * 每个查找表使用独立命名的 {@link OffHeapCache}，同名缓存只创建一次。 应用关闭时清空所有缓存，直接内存随缓存对象回收释放。
+ * </p>
+ */
+@Slf4j
+public class OffHeapCacheFactory implements DisposableBean {
+
+    private final CacheValueCodec codec;
+    private final OffHeapCacheProperties properties;
+    private final Map<String, OffHeapCache> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<OffHeapCache>> creationListeners = new CopyOnWriteArrayList<>();
+
+    public OffHeapCacheFactory(CacheValueCodec codec, OffHeapCacheProperties properties) {
+        this.codec = codec;
+        this.properties = properties;
+    }
+
+    /**
+     * 获取或创建使用默认容量的堆外缓存
+     */
+    public OffHeapCache getOrCreate(String name) {
+        return getOrCreate(name, properties.getCapacity());
+    }
+
+    /**
+     * 获取或创建堆外缓存，缓存已存在时忽略容量参数
+     *
+     * @param name 缓存名称，用于日志与指标
+     * @param capacity 堆外内存容量
+     */
+    public OffHeapCache getOrCreate(String name, DataSize capacity) {
+        return caches.computeIfAbsent(name, each -> {
+            log.info("[Omega] - Creating off-heap cache '{}' with {} of direct memory.", each,
+                    capacity);
+            OffHeapCache created = new OffHeapCache(each, codec, properties.getDefaultTimeout(),
+                    capacity.toBytes(), properties.getSegments(),
+                    (int) properties.getBlockSize().toBytes());
+            creationListeners.forEach(listener -> listener.accept(created));
+            return created;
+        });
+    }
+
+    /**
+     * 当前所有堆外缓存
+     */
+    public List<OffHeapCache> getCaches() {
+        return List.copyOf(caches.values());
+    }
+
+    /**
+     * 注册缓存创建监听器，已创建的缓存会立即回调
+     */
+    public void onCreate(Consumer<OffHeapCache> listener) {
+        creationListeners.add(listener);
+        caches.values().forEach(listener);
+    }
+
+    @Override
+    public void destroy() {
+        caches.values().forEach(OffHeapCache::close);
+        caches.clear();
+    }
+}
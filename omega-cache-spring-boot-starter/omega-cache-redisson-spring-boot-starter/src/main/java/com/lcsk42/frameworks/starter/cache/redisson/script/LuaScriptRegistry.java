@@ -0,0 +1,136 @@
+package com.lcsk42.frameworks.starter.cache.redisson.script;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Lua 脚本注册中心
+ * <p>
+ * 脚本在注册时从类路径读取一次并计算 SHA1，容器启动完成后统一通过 {@code SCRIPT LOAD} 预加载到 Redis。 执行时优先使用
+ * {@code EVALSHA}，Redis 重启或切换导致 {@code NOSCRIPT} 时由 Spring Data Redis 的脚本执行器自动回退为 {@code EVAL}
+ * 并重新缓存脚本，同时记录每个脚本的调用次数、失败次数与耗时。
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LuaScriptRegistry implements SmartInitializingSingleton {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ConcurrentHashMap<String, RegisteredScript<?>> scripts =
+            new ConcurrentHashMap<>();
+
+    private final List<Consumer<RegisteredScript<?>>> registrationListeners =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * 注册类路径下的 Lua 脚本，同一路径重复注册返回同一实例
+     *
+     * @param path 脚本类路径
+     * @param resultType 脚本返回值类型
+     * @param <T> 返回值类型
+     * @return 已注册的脚本
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RegisteredScript<T> register(String path, Class<T> resultType) {
+        RegisteredScript<?> existing = scripts.get(path);
+        if (existing != null) {
+            return (RegisteredScript<T>) existing;
+        }
+        DefaultRedisScript<T> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        redisScript.setResultType(resultType);
+        // 提前读取脚本内容并计算 SHA1，避免执行路径上的类路径 I/O
+        redisScript.getSha1();
+        RegisteredScript<T> script = new RegisteredScript<>(path, redisScript);
+        existing = scripts.putIfAbsent(path, script);
+        if (existing != null) {
+            return (RegisteredScript<T>) existing;
+        }
+        registrationListeners.forEach(each -> each.accept(script));
+        return script;
+    }
+
+    /**
+     * 注册脚本注册监听器，已注册的脚本会立即回调
+     */
+    public void onRegister(Consumer<RegisteredScript<?>> listener) {
+        registrationListeners.add(listener);
+        scripts.values().forEach(listener);
+    }
+
+    /**
+     * 使用模板默认的字符串序列化器执行脚本
+     */
+    public <T> T execute(RegisteredScript<T> script, List<String> keys, Object... args) {
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            T result = stringRedisTemplate.execute(script.getRedisScript(), keys, args);
+            error = false;
+            return result;
+        } finally {
+            script.record(System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * 使用指定的参数与结果序列化器执行脚本，适用于二进制参数
+     */
+    public <T> T execute(RegisteredScript<T> script, RedisSerializer<?> argsSerializer,
+            RedisSerializer<T> resultSerializer, List<String> keys, Object... args) {
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            T result = stringRedisTemplate.execute(script.getRedisScript(), argsSerializer,
+                    resultSerializer, keys, args);
+            error = false;
+            return result;
+        } finally {
+            script.record(System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * 获取所有已注册脚本及其执行统计
+     */
+    public Collection<RegisteredScript<?>> getScripts() {
+        return List.copyOf(scripts.values());
+    }
+
+    /**
+     * 将所有已注册脚本通过 SCRIPT LOAD 预加载到 Redis，失败时仅记录日志，首次执行会回退为 EVAL
+     */
+    public void loadAll() {
+        scripts.values().forEach(each -> {
+            try {
+                byte[] scriptBytes = each.getRedisScript().getScriptAsString()
+                        .getBytes(StandardCharsets.UTF_8);
+                stringRedisTemplate.execute((RedisCallback<String>) connection -> connection
+                        .scriptingCommands().scriptLoad(scriptBytes));
+            } catch (Exception ex) {
+                log.warn("[Omega] - Failed to preload Lua script '{}'.", each.getPath(), ex);
+            }
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadAll();
+        log.debug("[Omega] - Preloaded {} Lua scripts.", scripts.size());
+    }
+}
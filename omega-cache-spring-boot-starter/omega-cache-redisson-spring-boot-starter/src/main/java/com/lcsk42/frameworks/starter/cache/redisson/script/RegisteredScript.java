@@ -0,0 +1,79 @@
+package com.lcsk42.frameworks.starter.cache.redisson.script;
+
+import lombok.Getter;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 已注册到 {@link LuaScriptRegistry} 的 Lua 脚本及其执行统计
+ */
+public class RegisteredScript<T> {
+
+    /**
+     * 脚本的类路径
+     */
+    @Getter
+    private final String path;
+
+    @Getter
+    private final DefaultRedisScript<T> redisScript;
+
+    private final LongAdder callCount = new LongAdder();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    RegisteredScript(String path, DefaultRedisScript<T> redisScript) {
+        this.path = path;
+        this.redisScript = redisScript;
+    }
+
+    void record(long elapsedNanos, boolean error) {
+        callCount.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        if (error) {
+            errorCount.increment();
+        }
+    }
+
+    public String getSha1() {
+        return redisScript.getSha1();
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * 累计执行耗时（纳秒）
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 平均执行耗时（微秒）
+     */
+    public long getAverageMicros() {
+        long calls = callCount.sum();
+        return calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / calls);
+    }
+
+    /**
+     * 最大执行耗时（微秒）
+     */
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+}
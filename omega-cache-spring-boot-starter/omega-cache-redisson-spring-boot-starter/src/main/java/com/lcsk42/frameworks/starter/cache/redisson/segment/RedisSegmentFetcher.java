@@ -0,0 +1,26 @@
+package com.lcsk42.frameworks.starter.cache.redisson.segment;
+
+import com.lcsk42.frameworks.starter.common.segment.SegmentFetcher;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 基于 Redis INCRBY 的号段获取实现，每个业务标识对应一个计数键
+ */
+@RequiredArgsConstructor
+public class RedisSegmentFetcher implements SegmentFetcher {
+
+    private static final String SEGMENT_KEY_PREFIX = "segment_id:";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 键前缀，与缓存键前缀保持一致
+     */
+    private final String prefix;
+
+    @Override
+    public long fetch(String bizTag, int step) {
+        return redissonClient.getAtomicLong(prefix + SEGMENT_KEY_PREFIX + bizTag).addAndGet(step);
+    }
+}
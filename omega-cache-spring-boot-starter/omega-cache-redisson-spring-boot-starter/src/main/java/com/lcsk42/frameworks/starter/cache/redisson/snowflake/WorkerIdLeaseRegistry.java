@@ -0,0 +1,182 @@
+package com.lcsk42.frameworks.starter.cache.redisson.snowflake;
+
+import com.lcsk42.frameworks.starter.cache.redisson.config.WorkerIdLeaseProperties;
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.script.RegisteredScript;
+import com.lcsk42.frameworks.starter.common.snowflake.AtomicSnowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.LeasedSnowflake;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake worker ID 租约注册中心
+ * <p>
+ * 启动时从随机起点依次以 {@code SET NX PX} 尝试租用一个未被占用的 10 位 worker ID（高 5 位为 datacenterId，低 5 位为
+ * workerId），并注册为 {@link IdUtil#getSnowflake()} 使用的 {@link LeasedSnowflake}，避免按主机信息哈希得到的 ID
+ * 在多实例间冲突。后台线程每隔三分之一租约有效期续约一次：
+ * </p>
+ * <ul>
+ * <li>续约成功时延长本地租约；</li>
+ * <li>ID 已被其他实例占用时立即使当前生成器失效，并重新租用一个空闲 ID 注册新的生成器；</li>
+ * <li>续约持续失败超过租约有效期时，本地租约到期，生成器拒绝发号直至续约恢复。</li>
+ * </ul>
+ * <p>
+ * 实例异常退出后租约自然过期，其 ID 可被其他实例重新租用；应用关闭时主动释放。
+ * </p>
+ */
+@Slf4j
+public class WorkerIdLeaseRegistry implements InitializingBean, DisposableBean {
+
+    private static final String LUA_RENEW_SCRIPT_PATH = "lua/workerIdRenew.lua";
+    private static final String LUA_RELEASE_SCRIPT_PATH = "lua/workerIdRelease.lua";
+
+    private static final String LEASE_KEY_PREFIX = "snowflake_worker_id:";
+
+    private static final int WORKER_ID_BITS = 5;
+    private static final long WORKER_ID_MASK = (1L << WORKER_ID_BITS) - 1;
+    private static final long MAX_LEASE_ID = (1L << (WORKER_ID_BITS * 2)) - 1;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LuaScriptRegistry luaScriptRegistry;
+    private final WorkerIdLeaseProperties properties;
+    private final String owner = UUID.randomUUID().toString();
+
+    private RegisteredScript<Long> releaseScript;
+    private RegisteredScript<Long> renewScript;
+    private ScheduledExecutorService renewScheduler;
+    private volatile long leaseId = -1L;
+    private volatile LeasedSnowflake snowflake;
+
+    public WorkerIdLeaseRegistry(StringRedisTemplate stringRedisTemplate,
+            LuaScriptRegistry luaScriptRegistry,
+            WorkerIdLeaseProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.luaScriptRegistry = luaScriptRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * 获取当前租用的 ID，未租用时返回 -1
+     */
+    public long getLeaseId() {
+        return leaseId;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        renewScript = luaScriptRegistry.register(LUA_RENEW_SCRIPT_PATH, Long.class);
+        releaseScript = luaScriptRegistry.register(LUA_RELEASE_SCRIPT_PATH, Long.class);
+        acquire();
+
+        long renewMillis = Math.max(properties.getLeaseTime().toMillis() / 3, 1L);
+        renewScheduler = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("worker-id-lease-")
+                .daemon(true)
+                .build());
+        renewScheduler.scheduleWithFixedDelay(this::renew, renewMillis, renewMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 从随机起点逐个尝试租用，每次调用只访问一个键，兼容 Redis Cluster
+     *
+     * @throws IllegalStateException 如果所有 ID 均已被租用
+     */
+    private void acquire() {
+        Duration leaseTime = properties.getLeaseTime();
+        long start = ThreadLocalRandom.current().nextLong(MAX_LEASE_ID + 1);
+        for (long i = 0; i <= MAX_LEASE_ID; i++) {
+            long candidate = (start + i) & MAX_LEASE_ID;
+            long requestedAt = System.nanoTime();
+            if (BooleanUtils.isTrue(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(candidate), owner, leaseTime))) {
+                LeasedSnowflake leased = new LeasedSnowflake(candidate & WORKER_ID_MASK,
+                        candidate >>> WORKER_ID_BITS, leaseDeadline(requestedAt));
+                try {
+                    IdUtil.registerSnowflake(leased);
+                } catch (IllegalStateException ex) {
+                    stringRedisTemplate.delete(leaseKey(candidate));
+                    throw ex;
+                }
+                snowflake = leased;
+                leaseId = candidate;
+                log.info("[Omega] - Leased snowflake worker id {}.", candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException(
+                "No free snowflake worker id, all " + (MAX_LEASE_ID + 1) + " ids are leased");
+    }
+
+    private void renew() {
+        LeasedSnowflake current = snowflake;
+        long requestedAt = System.nanoTime();
+        Long renewed;
+        try {
+            renewed = luaScriptRegistry.execute(renewScript, List.of(leaseKey(leaseId)), owner,
+                    String.valueOf(properties.getLeaseTime().toMillis()));
+        } catch (Exception ex) {
+            if (current.isLeaseValid()) {
+                log.warn("[Omega] - Failed to renew snowflake worker id {}.", leaseId, ex);
+            } else {
+                log.error("[Omega] - Snowflake worker id {} lease expired, "
+                        + "id generation is suspended until renewal succeeds.", leaseId, ex);
+            }
+            return;
+        }
+        if (Objects.equals(renewed, 1L)) {
+            current.extendLease(leaseDeadline(requestedAt));
+            return;
+        }
+        current.revoke();
+        log.error("[Omega] - Snowflake worker id {} has been leased by another instance, "
+                + "acquiring a new one.", leaseId);
+        try {
+            acquire();
+        } catch (Exception ex) {
+            log.error("[Omega] - Failed to acquire a new snowflake worker id, "
+                    + "id generation is suspended.", ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (renewScheduler != null) {
+            renewScheduler.shutdownNow();
+        }
+        if (leaseId < 0L) {
+            return;
+        }
+        try {
+            luaScriptRegistry.execute(releaseScript, List.of(leaseKey(leaseId)), owner);
+        } catch (Exception ex) {
+            log.warn("[Omega] - Failed to release snowflake worker id {}.", leaseId, ex);
+        }
+    }
+
+    /**
+     * Redis 中的租约在收到请求后才开始计时，本地以发出请求的时间计算到期时间，并扣除生成器可借用的未来毫秒数
+     */
+    private long leaseDeadline(long requestedAtNanos) {
+        return requestedAtNanos + properties.getLeaseTime().toNanos()
+                - TimeUnit.MILLISECONDS.toNanos(AtomicSnowflake.DEFAULT_MAX_BORROW_MILLIS);
+    }
+
+    private static String leaseKey(long id) {
+        return LEASE_KEY_PREFIX + id;
+    }
+}
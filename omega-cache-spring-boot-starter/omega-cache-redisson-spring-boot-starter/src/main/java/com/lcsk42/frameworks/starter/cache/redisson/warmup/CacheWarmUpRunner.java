@@ -0,0 +1,128 @@
+package com.lcsk42.frameworks.starter.cache.redisson.warmup;
+
+import com.lcsk42.frameworks.starter.cache.core.warmup.CacheWarmer;
+import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.config.CacheWarmUpProperties;
+import com.lcsk42.frameworks.starter.core.init.ApplicationInitializingEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 缓存预热引擎
+ * <p>
+ * 监听 {@link ApplicationInitializingEvent}，在有界线程池中并行执行所有 {@link CacheWarmer}：按批次加载并通过管道批量写入缓存，
+ * 批次加载受全集群共享的 Redisson 限流器约束，避免多个节点同时启动时压垮数据源。 该事件在就绪状态切换前同步发布，因此在等待关键预热器期间
+ * 应用保持未就绪；非关键预热器与超时的关键预热器在后台继续执行。
+ * </p>
+ */
+@Slf4j
+public class CacheWarmUpRunner implements ApplicationListener<ApplicationInitializingEvent>,
+        DisposableBean {
+
+    private final DistributedCache distributedCache;
+    private final List<CacheWarmer<?>> warmers;
+    private final CacheWarmUpProperties properties;
+    private final ExecutorService executor;
+
+    /**
+     * 批次限流器，不限流时为 null
+     */
+    private final RRateLimiter rateLimiter;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    public CacheWarmUpRunner(DistributedCache distributedCache,
+            List<CacheWarmer<?>> warmers,
+            CacheWarmUpProperties properties,
+            ExecutorService executor,
+            RRateLimiter rateLimiter) {
+        this.distributedCache = distributedCache;
+        this.warmers = warmers;
+        this.properties = properties;
+        this.executor = executor;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationInitializingEvent event) {
+        if (warmers.isEmpty() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        List<CompletableFuture<Void>> criticalFutures = new ArrayList<>();
+        for (CacheWarmer<?> warmer : warmers) {
+            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> warm(warmer),
+                    executor);
+            if (warmer.isCritical()) {
+                criticalFutures.add(future);
+            }
+        }
+        if (criticalFutures.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            CompletableFuture.allOf(criticalFutures.toArray(CompletableFuture[]::new))
+                    .get(properties.getCriticalTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            log.info("[Omega] - Critical cache warmers completed in {} ms.",
+                    System.currentTimeMillis() - startTime);
+        } catch (TimeoutException ex) {
+            log.warn("[Omega] - Critical cache warmers did not complete within {}, "
+                    + "continuing in background.", properties.getCriticalTimeout());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("[Omega] - Critical cache warm-up failed.", ex.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> void warm(CacheWarmer<T> warmer) {
+        long startTime = System.currentTimeMillis();
+        Duration timeout = Objects.requireNonNullElse(warmer.getTimeout(),
+                distributedCache.getDefaultTimeOut());
+        List<String> keys = List.copyOf(warmer.keys());
+        int batchSize = properties.getBatchSize();
+        long warmed = 0L;
+        try {
+            for (int from = 0; from < keys.size(); from += batchSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                List<String> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                Map<String, T> values = warmer.load(batch);
+                if (values != null && !values.isEmpty()) {
+                    distributedCache.mPut(values, timeout);
+                    warmed += values.size();
+                }
+            }
+            log.info("[Omega] - Cache warmer '{}' loaded {}/{} key(s) in {} ms.",
+                    warmer.getName(), warmed, keys.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception ex) {
+            log.warn("[Omega] - Cache warmer '{}' failed after {} key(s).", warmer.getName(),
+                    warmed, ex);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.lcsk42.frameworks.starter.cache.redisson.writebehind;
+
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchWriter;
+import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.convention.exception.ServiceException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 写后回写缓冲区
+ * <p>
+ * 写入立即进入缓存，同时放入按键合并的缓冲区（同一键只保留最后一次写入），由调度器按固定间隔或在待回写数量达到批次上限时，
+ * 分批交给 {@link CacheBatchWriter} 持久化。待回写数量超过上限时由写入线程同步回写，以此限制内存占用。 回写失败的批次重新放回缓冲区，
+ * 期间同一键的新写入优先。由 {@link WriteBehindBufferFactory} 创建，应用关闭时会完成最后一次回写。
+ * </p>
+ * <p>
+ * 内存上限：失败批次放回时缓冲区最多恢复到 maxPending，超出部分（最早取出的键）被丢弃并计数、记录日志。回写失败后的退避期内，
+ * 写入线程不再同步回写（避免每次写入都承担一次失败的回写），缓冲区已满时新键的写入直接以 {@link ServiceException} 拒绝，
+ * 已在缓冲区中的键仍可覆盖。应用关闭时最多重试 {@value #CLOSE_FLUSH_ATTEMPTS} 轮，仍未回写的键逐个记录日志后丢弃。
+ * </p>
+ *
+ * @param <T> 缓存值类型
+ */
+@Slf4j
+public class WriteBehindBuffer<T> {
+
+    private static final int CLOSE_FLUSH_ATTEMPTS = 3;
+
+    @Getter
+    private final String name;
+    private final DistributedCache distributedCache;
+    private final CacheBatchWriter<T> writer;
+    private final Duration timeout;
+    private final int maxBatchSize;
+    private final int maxPending;
+    private final long retryBackoffNanos;
+    private final Executor flushExecutor;
+
+    private final ConcurrentHashMap<String, T> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 最近一次回写失败后的退避截止时间（纳秒），0 表示最近一次回写成功
+     */
+    private volatile long retryAtNanos;
+
+    /**
+     * 关闭后不再缓冲，写入直接同步回写
+     */
+    private volatile boolean closed;
+
+    WriteBehindBuffer(String name,
+            DistributedCache distributedCache,
+            CacheBatchWriter<T> writer,
+            Duration timeout,
+            int maxBatchSize,
+            int maxPending,
+            Duration retryBackoff,
+            Executor flushExecutor) {
+        this.name = name;
+        this.distributedCache = distributedCache;
+        this.writer = writer;
+        this.timeout = timeout;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPending = maxPending;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * 写入缓存并登记待回写
+     *
+     * @param key 缓存键
+     * @param value 缓存值，不能为 null
+     * @throws ServiceException 回写失败的退避期内缓冲区已满时
+     */
+    public void put(String key, T value) {
+        Objects.requireNonNull(value, "Write-behind value must not be null");
+        if (!closed && pending.size() >= maxPending && isBackingOff()
+                && !pending.containsKey(key)) {
+            rejectedCount.increment();
+            throw new ServiceException("Write-behind buffer '" + name
+                    + "' is full while its writer is failing");
+        }
+        distributedCache.put(key, value, timeout);
+        if (closed) {
+            // 关闭后无人再回写，同步回写失败时不留在缓冲区，直接通知调用方
+            if (!writeBatch(Map.of(key, value))) {
+                pending.remove(key, value);
+                throw new ServiceException("Write-behind buffer '" + name
+                        + "' is closed and failed to write key: " + key);
+            }
+            return;
+        }
+        pending.put(key, value);
+        // 与 close() 并发时，close() 的最后一次回写可能已经结束，再次检查后自行回写
+        if (closed) {
+            flush();
+            return;
+        }
+        int size = pending.size();
+        if (size >= maxPending) {
+            if (!isBackingOff()) {
+                flush();
+            }
+        } else if (size >= maxBatchSize && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 立即回写所有待回写的键，遇到失败的批次时停止并等待下次回写
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                Map<String, T> batch = drain();
+                if (batch.isEmpty() || !writeBatch(batch)) {
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 当前待回写的键数量
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 已执行的回写批次数（包括失败的批次）
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * 回写批次的累计耗时（纳秒）
+     */
+    public long getFlushTotalNanos() {
+        return flushNanos.sum();
+    }
+
+    /**
+     * 已成功回写的键数量
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    /**
+     * 回写失败的批次数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 因缓冲区超出上限或关闭时仍未回写而丢弃的键数量
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 因缓冲区已满而拒绝的写入次数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 先标记关闭再回写：之后的写入要么被本次回写取走，要么在写入线程再次检查关闭标记时自行回写。
+     * 回写失败时重试，仍未回写的键逐个记录日志
+     */
+    void close() {
+        closed = true;
+        flushLock.lock();
+        try {
+            for (int attempt = 0; attempt < CLOSE_FLUSH_ATTEMPTS && !pending.isEmpty(); attempt++) {
+                flush();
+            }
+            if (!pending.isEmpty()) {
+                List<String> lostKeys = new ArrayList<>(pending.keySet());
+                lostKeys.forEach(pending::remove);
+                droppedCount.add(lostKeys.size());
+                log.error("[Omega] - Write-behind buffer '{}' closed with {} unwritten key(s): {}",
+                        name, lostKeys.size(), lostKeys);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean isBackingOff() {
+        long retryAt = retryAtNanos;
+        return retryAt != 0L && System.nanoTime() - retryAt < 0L;
+    }
+
+    private Map<String, T> drain() {
+        Map<String, T> batch = new LinkedHashMap<>();
+        Iterator<String> iterator = pending.keySet().iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            String key = iterator.next();
+            T value = pending.remove(key);
+            if (value != null) {
+                batch.put(key, value);
+            }
+        }
+        return batch;
+    }
+
+    private boolean writeBatch(Map<String, T> batch) {
+        long startTime = System.nanoTime();
+        try {
+            writer.write(batch);
+            writtenCount.add(batch.size());
+            retryAtNanos = 0L;
+            return true;
+        } catch (Exception ex) {
+            failureCount.increment();
+            retryAtNanos = System.nanoTime() + retryBackoffNanos;
+            log.warn("[Omega] - Write-behind buffer '{}' failed to write {} key(s).", name,
+                    batch.size(), ex);
+            restore(batch);
+            return false;
+        } finally {
+            flushCount.increment();
+            flushNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 将失败的批次放回缓冲区，期间同一键的新写入优先；缓冲区最多恢复到 maxPending，其余键丢弃
+     */
+    private void restore(Map<String, T> batch) {
+        List<String> droppedKeys = new ArrayList<>();
+        batch.forEach((key, value) -> {
+            if (pending.size() < maxPending || pending.containsKey(key)) {
+                pending.putIfAbsent(key, value);
+            } else {
+                droppedKeys.add(key);
+            }
+        });
+        if (!droppedKeys.isEmpty()) {
+            droppedCount.add(droppedKeys.size());
+            log.error("[Omega] - Write-behind buffer '{}' is full, dropped {} unwritten key(s): {}",
+                    name, droppedKeys.size(), droppedKeys);
+        }
+    }
+}
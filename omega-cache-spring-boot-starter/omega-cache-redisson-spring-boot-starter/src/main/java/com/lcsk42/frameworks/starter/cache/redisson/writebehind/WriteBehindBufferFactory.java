@@ -0,0 +1,113 @@
+package com.lcsk42.frameworks.starter.cache.redisson.writebehind;
+
+import com.lcsk42.frameworks.starter.cache.core.function.CacheBatchWriter;
+import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.config.WriteBehindProperties;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 写后回写缓冲区工厂
+ * <p>
+ * 所有缓冲区共享一个调度线程。作为 {@link SmartLifecycle} 在 Web 服务器停止之后、Bean 销毁之前停止，
+ * 此时完成最后一次回写，回写器依赖的数据源仍然可用；停止后的写入直接同步回写。
+ * </p>
+ */
+public class WriteBehindBufferFactory implements SmartLifecycle {
+
+    /**
+     * 晚于 Web 服务器（优雅）停止
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final DistributedCache distributedCache;
+    private final WriteBehindProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final List<WriteBehindBuffer<?>> buffers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<WriteBehindBuffer<?>>> creationListeners =
+            new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    public WriteBehindBufferFactory(DistributedCache distributedCache,
+            WriteBehindProperties properties) {
+        this.distributedCache = distributedCache;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("cache-write-behind-")
+                .daemon(true)
+                .build());
+    }
+
+    /**
+     * 创建使用缓存默认过期时间的缓冲区
+     */
+    public <T> WriteBehindBuffer<T> create(String name, CacheBatchWriter<T> writer) {
+        return create(name, writer, distributedCache.getDefaultTimeOut());
+    }
+
+    /**
+     * 创建缓冲区
+     *
+     * @param name 缓冲区名称，用于日志与指标
+     * @param writer 批量回写器
+     * @param timeout 缓存过期时间
+     */
+    public <T> WriteBehindBuffer<T> create(String name, CacheBatchWriter<T> writer,
+            Duration timeout) {
+        WriteBehindBuffer<T> buffer = new WriteBehindBuffer<>(name, distributedCache, writer,
+                timeout, properties.getMaxBatchSize(), properties.getMaxPending(),
+                properties.getFlushInterval(), scheduler);
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(buffer::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        buffers.add(buffer);
+        creationListeners.forEach(each -> each.accept(buffer));
+        return buffer;
+    }
+
+    /**
+     * 当前所有缓冲区
+     */
+    public List<WriteBehindBuffer<?>> getBuffers() {
+        return List.copyOf(buffers);
+    }
+
+    /**
+     * 注册缓冲区创建监听器，已创建的缓冲区会立即回调
+     */
+    public void onCreate(Consumer<WriteBehindBuffer<?>> listener) {
+        creationListeners.add(listener);
+        buffers.forEach(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        buffers.forEach(WriteBehindBuffer::close);
+        scheduler.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
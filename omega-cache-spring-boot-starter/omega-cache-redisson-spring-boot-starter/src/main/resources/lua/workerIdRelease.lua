@@ -0,0 +1,7 @@
+local key = KEYS[1]
+local owner = ARGV[1]
+
+if redis.call('GET', key) == owner then
+    return redis.call('DEL', key)
+end
+return 0
@@ -0,0 +1,15 @@
+local key = KEYS[1]
+local owner = ARGV[1]
+local leaseMillis = tonumber(ARGV[2])
+
+local current = redis.call('GET', key)
+if current == owner then
+    redis.call('PEXPIRE', key, leaseMillis)
+    return 1
+end
+-- 租约已过期且未被其他实例占用时重新租用
+if not current then
+    redis.call('SET', key, owner, 'PX', leaseMillis)
+    return 1
+end
+return 0
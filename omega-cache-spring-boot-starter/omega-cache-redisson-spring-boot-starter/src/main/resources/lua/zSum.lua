@@ -0,0 +1,13 @@
+local key = KEYS[1]
+local sum = 0
+
+-- 在服务端逐个累加分数，不存在的元素忽略
+for i = 1, #ARGV do
+    local score = redis.call('ZSCORE', key, ARGV[i])
+    if score then
+        sum = sum + tonumber(score)
+    end
+end
+
+-- Lua 数字返回给客户端会被截断为整数，以字符串形式返回并保留完整精度
+return string.format('%.17g', sum)
@@ -1,10 +1,14 @@
 package com.lcsk42.frameworks.starter.common.config;
 
+import com.lcsk42.frameworks.starter.common.segment.SegmentFetcher;
+import com.lcsk42.frameworks.starter.common.segment.SegmentIdGeneratorFactory;
 import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadPoolBuilder;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
@@ -12,6 +16,7 @@ import java.util.concurrent.Executor;
 
 @Slf4j
 @AutoConfigureBefore(TaskExecutionAutoConfiguration.class)
+@EnableConfigurationProperties(SegmentIdProperties.class)
 public class CommonAutoConfiguration {
     /**
      * 创建主任务执行器 bean。 配置默认线程池包含以下特性： - 线程名前缀 "default-pool-" - 非守护线程
@@ -24,6 +29,17 @@ public class CommonAutoConfiguration {
         return ThreadPoolBuilder.builder().threadFactory("default-pool-", false).build();
     }
 
+    /**
+     * 号段 ID 生成器工厂，需要存在一个 {@link SegmentFetcher}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = SegmentIdProperties.PREFIX, name = "enabled",
+            havingValue = "true")
+    public SegmentIdGeneratorFactory segmentIdGeneratorFactory(SegmentFetcher segmentFetcher,
+            SegmentIdProperties segmentIdProperties) {
+        return new SegmentIdGeneratorFactory(segmentFetcher, segmentIdProperties);
+    }
+
     @PostConstruct
     public void postConstruct() {
         log.debug("[Omega] - Auto Configuration 'Common' completed initialization.");
@@ -0,0 +1,48 @@
+package com.lcsk42.frameworks.starter.common.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ConfigurationProperties(prefix = SegmentIdProperties.PREFIX)
+public class SegmentIdProperties {
+
+    public static final String PREFIX = "framework.segment-id";
+
+    /**
+     * 是否开启号段 ID 生成器，开启后需要存在一个 SegmentFetcher（引入 Redisson 缓存模块时默认使用 Redis，也可自行声明
+     * JdbcSegmentFetcher）
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 初始步长，即每次从存储中获取的号段长度
+     */
+    private Integer initialStep = 1000;
+
+    /**
+     * 自适应调整时步长的下限
+     */
+    private Integer minStep = 1000;
+
+    /**
+     * 自适应调整时步长的上限
+     */
+    private Integer maxStep = 100_000;
+
+    /**
+     * 当前号段消耗达到该比例时异步预加载下一个号段
+     */
+    private Double preloadRatio = 0.1D;
+
+    /**
+     * 期望的号段消耗周期：实际周期短于该值时步长翻倍，长于两倍时步长减半
+     */
+    private Duration targetDuration = Duration.ofMinutes(15);
+}
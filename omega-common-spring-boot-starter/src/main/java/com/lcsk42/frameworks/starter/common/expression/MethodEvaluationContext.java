@@ -0,0 +1,60 @@
+package com.lcsk42.frameworks.starter.common.expression;
+
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * 基于方法参数的轻量求值上下文
+ * <p>
+ * 按已解析的参数名直接从参数数组查找变量，不在每次求值时将参数逐个写入变量表；与
+ * {@link org.springframework.context.expression.MethodBasedEvaluationContext} 一样支持 {@code #p0} / {@code #a0}
+ * 按下标访问参数。其余变量仍由 {@link StandardEvaluationContext} 处理。
+ * </p>
+ */
+public class MethodEvaluationContext extends StandardEvaluationContext {
+
+    private final String[] parameterNames;
+    private final Object[] args;
+
+    public MethodEvaluationContext(ExpressionInvokeContext rootObject, String[] parameterNames) {
+        super(rootObject);
+        this.parameterNames = parameterNames;
+        this.args = rootObject.getArgs();
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        if (args != null) {
+            if (parameterNames != null) {
+                for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+                    if (name.equals(parameterNames[i])) {
+                        return args[i];
+                    }
+                }
+            }
+            int index = argumentIndex(name);
+            if (index >= 0 && index < args.length) {
+                return args[index];
+            }
+        }
+        return super.lookupVariable(name);
+    }
+
+    /**
+     * 解析 {@code p0} / {@code a0} 形式的参数下标，不匹配时返回 -1
+     */
+    private static int argumentIndex(String name) {
+        if (name.length() < 2 || name.length() > 4
+                || (name.charAt(0) != 'p' && name.charAt(0) != 'a')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
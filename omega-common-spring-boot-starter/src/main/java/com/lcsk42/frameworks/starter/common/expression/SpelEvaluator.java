@@ -2,17 +2,21 @@ package com.lcsk42.frameworks.starter.common.expression;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.lang.reflect.Method;
 import java.util.function.Function;
 
 /**
  * Spring EL 表达式解析器
+ * <p>
+ * 表达式以 {@link SpelCompilerMode#MIXED} 模式解析：先解释执行，多次求值后编译为字节码，编译后的表达式求值失败时回退为解释执行。
+ * 实例线程安全，应按 (方法, 表达式) 缓存复用，参见 {@link com.lcsk42.frameworks.starter.common.util.ExpressionUtils}。
+ * </p>
  */
 public class SpelEvaluator implements Function<Object, Object> {
 
@@ -20,7 +24,8 @@ public class SpelEvaluator implements Function<Object, Object> {
     private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER;
 
     static {
-        PARSER = new SpelExpressionParser();
+        PARSER = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+                SpelEvaluator.class.getClassLoader()));
         PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
     }
 
@@ -36,13 +41,7 @@ public class SpelEvaluator implements Function<Object, Object> {
 
     @Override
     public Object apply(Object rootObject) {
-        EvaluationContext context = new StandardEvaluationContext(rootObject);
-        ExpressionInvokeContext invokeContext = (ExpressionInvokeContext) rootObject;
-        if (parameterNames != null) {
-            for (int i = 0; i < parameterNames.length; i++) {
-                context.setVariable(parameterNames[i], invokeContext.getArgs()[i]);
-            }
-        }
-        return expression.getValue(context);
+        return expression.getValue(
+                new MethodEvaluationContext((ExpressionInvokeContext) rootObject, parameterNames));
     }
 }
@@ -0,0 +1,108 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import org.apache.commons.lang3.Validate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 基于数据库表的号段获取实现
+ * <p>
+ * 在同一事务内执行 {@code UPDATE ... SET max_id = max_id + step} 与 {@code SELECT max_id}，由行锁保证多个节点获取的号段互不重叠。
+ * 业务标识不存在时自动插入一行。表结构示例：
+ * </p>
+ *
+ * <pre>
+ * CREATE TABLE omega_segment_id (
+ *     biz_tag VARCHAR(128) NOT NULL PRIMARY KEY,
+ *     max_id  BIGINT       NOT NULL
+ * );
+ * </pre>
+ */
+public class JdbcSegmentFetcher implements SegmentFetcher {
+
+    public static final String DEFAULT_TABLE_NAME = "omega_segment_id";
+
+    private final DataSource dataSource;
+    private final String updateSql;
+    private final String selectSql;
+    private final String insertSql;
+
+    public JdbcSegmentFetcher(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcSegmentFetcher(DataSource dataSource, String tableName) {
+        Validate.matchesPattern(tableName, "[A-Za-z0-9_.]+", "非法的表名: %s", tableName);
+        this.dataSource = dataSource;
+        this.updateSql = "UPDATE " + tableName + " SET max_id = max_id + ? WHERE biz_tag = ?";
+        this.selectSql = "SELECT max_id FROM " + tableName + " WHERE biz_tag = ?";
+        this.insertSql = "INSERT INTO " + tableName + " (biz_tag, max_id) VALUES (?, ?)";
+    }
+
+    @Override
+    public long fetch(String bizTag, int step) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long max = fetch(connection, bizTag, step);
+                connection.commit();
+                return max;
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to fetch segment for '" + bizTag + "'", ex);
+        }
+    }
+
+    private long fetch(Connection connection, String bizTag, int step) throws SQLException {
+        if (update(connection, bizTag, step) == 0) {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+                statement.setString(1, bizTag);
+                statement.setLong(2, step);
+                statement.executeUpdate();
+                return step;
+            } catch (SQLException ex) {
+                if (!isIntegrityConstraintViolation(ex)) {
+                    throw ex;
+                }
+                // 其他节点已插入该业务标识，改为递增；部分数据库需要先回滚失败的语句
+                connection.rollback();
+                update(connection, bizTag, step);
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            statement.setString(1, bizTag);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("Segment row for '" + bizTag + "' not found");
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 按 SQLState 类别 23 判断完整性约束冲突，部分驱动（如 PostgreSQL）不会抛出
+     * {@link java.sql.SQLIntegrityConstraintViolationException}
+     */
+    private static boolean isIntegrityConstraintViolation(SQLException ex) {
+        return ex.getSQLState() != null && ex.getSQLState().startsWith("23");
+    }
+
+    private int update(Connection connection, String bizTag, int step) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+            statement.setLong(1, step);
+            statement.setString(2, bizTag);
+            return statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+/**
+ * 号段获取 SPI
+ * <p>
+ * 实现需保证对同一业务标识的多次调用（包括跨节点）返回互不重叠的号段，例如 Redis INCRBY 或数据库中的原子 UPDATE。 允许每次调用使用不同的步长。
+ * </p>
+ */
+@FunctionalInterface
+public interface SegmentFetcher {
+
+    /**
+     * 为业务标识分配一个长度为 step 的号段
+     *
+     * @param bizTag 业务标识
+     * @param step 号段长度
+     * @return 号段的最大值（包含），号段为 {@code [max - step + 1, max]}
+     */
+    long fetch(String bizTag, int step);
+}
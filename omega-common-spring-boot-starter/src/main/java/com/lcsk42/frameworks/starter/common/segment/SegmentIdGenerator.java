@@ -0,0 +1,161 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import com.lcsk42.frameworks.starter.common.config.SegmentIdProperties;
+import com.lcsk42.frameworks.starter.common.snowflake.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 号段（Leaf-Segment）ID 生成器
+ * <p>
+ * 通过 {@link SegmentFetcher} 一次获取一段连续的号码，在本地以 {@link AtomicLong} 自增发放，不依赖系统时钟与节点 ID。
+ * 双缓冲：当前号段消耗达到 preloadRatio 时异步预加载下一个号段，当前号段用尽时直接切换，存储短暂不可用也不会阻塞发号。
+ * </p>
+ * <p>
+ * 步长根据消耗速度自适应：两次获取的间隔短于 targetDuration 时步长翻倍，长于两倍 targetDuration 时减半。 ID 在单个节点内递增，
+ * 跨节点仅保证唯一、趋势递增；节点重启时未用完的号段被丢弃。
+ * </p>
+ */
+@Slf4j
+public class SegmentIdGenerator implements IdGenerator {
+
+    private final String bizTag;
+    private final SegmentFetcher segmentFetcher;
+    private final SegmentIdProperties properties;
+    private final Executor preloadExecutor;
+    private final Object switchLock = new Object();
+
+    /**
+     * 初始为空号段，首次发号时同步获取
+     */
+    private volatile Segment current = new Segment(0L, -1L, 0L);
+
+    /**
+     * 以下字段仅在 {@link #fetch()} 中访问
+     */
+    private int step;
+    private long lastFetchNanos;
+
+    public SegmentIdGenerator(String bizTag,
+            SegmentFetcher segmentFetcher,
+            SegmentIdProperties properties,
+            Executor preloadExecutor) {
+        this.bizTag = bizTag;
+        this.segmentFetcher = segmentFetcher;
+        this.properties = properties;
+        this.preloadExecutor = preloadExecutor;
+        this.step = properties.getInitialStep();
+    }
+
+    public String getBizTag() {
+        return bizTag;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Segment segment = current;
+            long id = segment.value.getAndIncrement();
+            if (id <= segment.max) {
+                if (id - segment.start >= segment.preloadThreshold
+                        && segment.preloadTriggered.compareAndSet(false, true)) {
+                    preload(segment);
+                }
+                return id;
+            }
+            switchSegment(segment);
+        }
+    }
+
+    @Override
+    public String nextIdString() {
+        return Long.toString(nextId());
+    }
+
+    /**
+     * 为指定号段预加载下一个号段。预加载结果挂在该号段上并在 switchLock 下发布：号段已被切换时不再预加载，
+     * 切换时也只会使用为被切换号段预加载的结果，避免较早获取的（更小的）号段在同步获取的号段之后被使用
+     */
+    private void preload(Segment segment) {
+        synchronized (switchLock) {
+            if (current != segment) {
+                return;
+            }
+            segment.next = CompletableFuture.supplyAsync(this::fetch, preloadExecutor)
+                    .whenComplete((fetched, throwable) -> {
+                        if (throwable != null) {
+                            log.warn("[Omega] - Failed to preload segment for '{}'.", bizTag,
+                                    throwable);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 当前号段用尽后切换到预加载的号段，预加载未开始或失败时同步获取
+     */
+    private void switchSegment(Segment exhausted) {
+        synchronized (switchLock) {
+            if (current != exhausted) {
+                return;
+            }
+            CompletableFuture<Segment> pending = exhausted.next;
+            Segment fresh = null;
+            if (pending != null) {
+                try {
+                    fresh = pending.join();
+                } catch (CompletionException ex) {
+                    // 预加载失败已记录日志，改为同步获取
+                }
+            }
+            current = fresh != null ? fresh : fetch();
+        }
+    }
+
+    private synchronized Segment fetch() {
+        long now = System.nanoTime();
+        if (lastFetchNanos != 0L) {
+            long elapsed = now - lastFetchNanos;
+            long target = properties.getTargetDuration().toNanos();
+            if (elapsed < target) {
+                step = Math.min(step * 2, properties.getMaxStep());
+            } else if (elapsed > target * 2) {
+                step = Math.max(step / 2, properties.getMinStep());
+            }
+        }
+        lastFetchNanos = now;
+        int fetchStep = step;
+        long max = segmentFetcher.fetch(bizTag, fetchStep);
+        return new Segment(max - fetchStep + 1, max,
+                (long) (fetchStep * properties.getPreloadRatio()));
+    }
+
+    /**
+     * 号段 [start, max]，value 为下一个待发放的号码
+     */
+    private static final class Segment {
+
+        private final long start;
+        private final long max;
+        private final long preloadThreshold;
+        private final AtomicLong value;
+        private final AtomicBoolean preloadTriggered = new AtomicBoolean();
+
+        /**
+         * 为本号段预加载的下一个号段，仅在 switchLock 下读写
+         */
+        private CompletableFuture<Segment> next;
+
+        private Segment(long start, long max, long preloadThreshold) {
+            this.start = start;
+            this.max = max;
+            this.preloadThreshold = preloadThreshold;
+            this.value = new AtomicLong(start);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import com.lcsk42.frameworks.starter.common.config.SegmentIdProperties;
+import com.lcsk42.frameworks.starter.common.threadpool.build.ThreadFactoryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 号段 ID 生成器工厂，每个业务标识对应一个生成器，所有生成器共享一个预加载线程
+ */
+public class SegmentIdGeneratorFactory implements DisposableBean {
+
+    private final SegmentFetcher segmentFetcher;
+    private final SegmentIdProperties properties;
+    private final ExecutorService preloadExecutor;
+    private final Map<String, SegmentIdGenerator> generators = new ConcurrentHashMap<>();
+
+    public SegmentIdGeneratorFactory(SegmentFetcher segmentFetcher,
+            SegmentIdProperties properties) {
+        this.segmentFetcher = segmentFetcher;
+        this.properties = properties;
+        this.preloadExecutor = Executors.newSingleThreadExecutor(ThreadFactoryBuilder.builder()
+                .prefix("segment-id-preload-")
+                .daemon(true)
+                .build());
+    }
+
+    /**
+     * 获取业务标识对应的生成器
+     *
+     * @param bizTag 业务标识，如表名
+     */
+    public SegmentIdGenerator get(String bizTag) {
+        return generators.computeIfAbsent(bizTag,
+                each -> new SegmentIdGenerator(each, segmentFetcher, properties, preloadExecutor));
+    }
+
+    /**
+     * 为业务标识生成下一个 ID
+     */
+    public long nextId(String bizTag) {
+        return get(bizTag).nextId();
+    }
+
+    @Override
+    public void destroy() {
+        preloadExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,136 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁 Snowflake ID 生成器
+ * <p>
+ * 与 {@link Snowflake} 的位布局完全一致，但将上次发放的时间戳与序列号打包在一个 {@link AtomicLong} 中（[时间戳][12 位序列号]），
+ * 通过 CAS 推进，避免高并发下 {@code synchronized} 监视器的争用。
+ * </p>
+ * <p>
+ * 同一毫秒内序列号耗尽时直接进位到下一毫秒（借用未来时间），时钟小幅回拨时继续在上次时间戳上递增，均不阻塞也不抛出异常；
+ * 借用的时间最多领先系统时钟 {@code maxBorrowMillis} 毫秒，超过时自旋等待时钟追上，时钟回拨超过该值时抛出异常。
+ * </p>
+ */
+public class AtomicSnowflake extends Snowflake {
+
+    /**
+     * 默认允许借用的未来毫秒数
+     */
+    public static final long DEFAULT_MAX_BORROW_MILLIS = 10L;
+
+    private final long maxBorrowMillis;
+
+    private final long nodeBits;
+
+    /**
+     * 上次发放的 [相对时间戳][序列号]
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 默认构造函数，使用自动生成的工作机器 ID 和 数据中心 ID 初始化 使用 {@link IdUtil} 在允许的位范围内生成有效 ID
+     */
+    public AtomicSnowflake() {
+        this(IdUtil.generateWorkerId(WORKER_ID_BITS), IdUtil.generateWorkerId(DATACENTER_ID_BITS));
+    }
+
+    public AtomicSnowflake(long workerId, long datacenterId) {
+        this(workerId, datacenterId, DEFAULT_MAX_BORROW_MILLIS);
+    }
+
+    /**
+     * 构造无锁 Snowflake ID 生成器实例
+     *
+     * @param workerId 工作机器 ID（0 ≤ workerId ≤ 31）
+     * @param datacenterId 数据中心 ID（0 ≤ datacenterId ≤ 31）
+     * @param maxBorrowMillis 允许领先系统时钟的最大毫秒数，同时也是可容忍的时钟回拨幅度
+     * @throws IllegalArgumentException 如果参数超出有效范围
+     */
+    public AtomicSnowflake(long workerId, long datacenterId, long maxBorrowMillis) {
+        super(workerId, datacenterId);
+        Validate.isTrue(maxBorrowMillis >= 0, "可借用的毫秒数不能小于 0");
+        this.maxBorrowMillis = maxBorrowMillis;
+        this.nodeBits = (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
+    }
+
+    /**
+     * 生成下一个唯一 ID（无锁）
+     *
+     * @return 64 位 Snowflake ID
+     * @throws IllegalStateException 如果系统时钟回拨超过允许借用的毫秒数
+     */
+    @Override
+    public long nextId() {
+        return compose(advance(1L));
+    }
+
+    @Override
+    public String nextIdString() {
+        return Long.toString(nextId());
+    }
+
+    /**
+     * 批量生成 ID：每次 CAS 预留一段连续序列号（最多 4095 个），而不是逐个推进
+     *
+     * @param n 需要的 ID 数量
+     * @return 按生成顺序排列的 ID 数组
+     */
+    @Override
+    public long[] nextIds(int n) {
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int count = (int) Math.min(n - filled, SEQUENCE_MASK);
+            long last = advance(count);
+            for (long stateValue = last - count + 1; stateValue <= last; stateValue++) {
+                ids[filled++] = compose(stateValue);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 预留 count 个连续序列号，返回其中最后一个的状态值；序列号跨越毫秒边界时自动进位
+     */
+    protected long advance(long count) {
+        while (true) {
+            long last = state.get();
+            long now = timeGen() - START_TIMESTAMP;
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTimestamp && count <= SEQUENCE_MASK) {
+                // 新的毫秒：使用随机值初始化序列号以避免可预测的 ID
+                long sequence = ThreadLocalRandom.current().nextLong(1, 3);
+                next = (now << SEQUENCE_BITS) + sequence + count - 1;
+            } else {
+                if (lastTimestamp - now > maxBorrowMillis) {
+                    throw new IllegalStateException(
+                            String.format("时钟回拨。拒绝为 %d 毫秒生成 ID", lastTimestamp - now));
+                }
+                next = Math.max(last, now << SEQUENCE_BITS) + count;
+            }
+            if ((next >>> SEQUENCE_BITS) - now > maxBorrowMillis) {
+                // 借用的时间过多，等待时钟追上
+                Thread.onSpinWait();
+                continue;
+            }
+            if (state.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 将 [相对时间戳][序列号] 状态值组合为完整 ID
+     */
+    protected long compose(long stateValue) {
+        return ((stateValue >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits
+                | (stateValue & SEQUENCE_MASK);
+    }
+}
@@ -16,6 +16,20 @@ public interface IdGenerator {
         return 0L;
     }
 
+    /**
+     * 批量生成 n 个唯一的数字 ID 默认实现逐个调用 {@link #nextId()}，实现类可覆盖为一次性预留连续的序列区间
+     *
+     * @param n 需要的 ID 数量
+     * @return 按生成顺序排列的 ID 数组
+     */
+    default long[] nextIds(int n) {
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+
     /**
      * 生成并返回下一个唯一的字符串 ID 默认实现返回空字符串（应由实现类覆盖）
      *
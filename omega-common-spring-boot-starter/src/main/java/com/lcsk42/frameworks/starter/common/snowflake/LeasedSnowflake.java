@@ -0,0 +1,61 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+/**
+ * 基于租约的 Snowflake ID 生成器
+ * <p>
+ * worker/datacenter ID 由外部协调（如 Redis 租约）分配，仅在租约有效期内发号。租约到期仍未续约，或被 {@link #revoke()} 判定失效后，
+ * 发号抛出 {@link IllegalStateException}，避免与重新租用到该 ID 的其他实例生成重复 ID。
+ * </p>
+ */
+public class LeasedSnowflake extends AtomicSnowflake {
+
+    /**
+     * 租约到期时间，基于 {@link System#nanoTime()}
+     */
+    private volatile long leaseDeadlineNanos;
+
+    private volatile boolean revoked;
+
+    /**
+     * @param workerId 工作机器 ID（0 ≤ workerId ≤ 31）
+     * @param datacenterId 数据中心 ID（0 ≤ datacenterId ≤ 31）
+     * @param leaseDeadlineNanos 租约到期时间，基于 {@link System#nanoTime()}
+     */
+    public LeasedSnowflake(long workerId, long datacenterId, long leaseDeadlineNanos) {
+        super(workerId, datacenterId);
+        this.leaseDeadlineNanos = leaseDeadlineNanos;
+    }
+
+    /**
+     * 续约成功后延长租约，已失效的租约不会恢复
+     */
+    public void extendLease(long leaseDeadlineNanos) {
+        this.leaseDeadlineNanos = leaseDeadlineNanos;
+    }
+
+    /**
+     * 使租约立即失效，此后发号均抛出异常
+     */
+    public void revoke() {
+        this.revoked = true;
+    }
+
+    public boolean isLeaseValid() {
+        return !revoked && System.nanoTime() - leaseDeadlineNanos < 0L;
+    }
+
+    /**
+     * 发号前检查租约，{@link #nextId()} 与 {@link #nextIds(int)} 均经过此处
+     *
+     * @throws IllegalStateException 如果租约已过期或已失效
+     */
+    @Override
+    protected long advance(long count) {
+        if (!isLeaseValid()) {
+            throw new IllegalStateException(String.format(
+                    "Snowflake worker id lease (worker %d, datacenter %d) is not held",
+                    workerId, datacenterId));
+        }
+        return super.advance(count);
+    }
+}
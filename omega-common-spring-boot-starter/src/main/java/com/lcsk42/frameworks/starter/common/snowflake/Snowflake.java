@@ -27,23 +27,23 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class Snowflake implements Serializable, IdGenerator {
     // 自定义纪元（2020-01-01 00:00:00 UTC）
-    private final static long START_TIMESTAMP = 1577808000000L;
+    protected final static long START_TIMESTAMP = 1577808000000L;
     // 位分配配置
-    private final static long WORKER_ID_BITS = 5L; // 工作机器 ID 占用的位数
-    private final static long DATACENTER_ID_BITS = 5L; // 数据中心 ID 占用的位数
-    private final static long SEQUENCE_BITS = 12L; // 序列号占用的位数
+    protected final static long WORKER_ID_BITS = 5L; // 工作机器 ID 占用的位数
+    protected final static long DATACENTER_ID_BITS = 5L; // 数据中心 ID 占用的位数
+    protected final static long SEQUENCE_BITS = 12L; // 序列号占用的位数
     // 最大允许值
-    private final static long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS); // 最大工作机器 ID（31）
-    private final static long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS); // 最大数据中心 ID（31）
+    protected final static long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS); // 最大工作机器 ID（31）
+    protected final static long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS); // 最大数据中心 ID（31）
     // 位偏移配置
-    private final static long WORKER_ID_SHIFT = SEQUENCE_BITS;
-    private final static long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
-    private final static long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
+    protected final static long WORKER_ID_SHIFT = SEQUENCE_BITS;
+    protected final static long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    protected final static long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
     // 序列号掩码（0b111111111111=0xfff=4095）
-    private final static long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    protected final static long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
     // 实例配置
-    private final long workerId; // 工作机器标识符（0-31）
-    private final long datacenterId; // 数据中心标识符（0-31）
+    protected final long workerId; // 工作机器标识符（0-31）
+    protected final long datacenterId; // 数据中心标识符（0-31）
     private long sequence = 0L; // 序列号（0-4095）
     private long lastTimestamp = -1L; // 上次生成 ID 的时间戳
 
@@ -102,6 +102,17 @@ public class Snowflake implements Serializable, IdGenerator {
                 | (workerId << WORKER_ID_SHIFT) | sequence;
     }
 
+    /**
+     * 批量生成 ID，整批只获取一次监视器
+     *
+     * @param n 需要的 ID 数量
+     * @return 按生成顺序排列的 ID 数组
+     */
+    @Override
+    public synchronized long[] nextIds(int n) {
+        return IdGenerator.super.nextIds(n);
+    }
+
     /**
      * 生成下一个唯一 ID 的字符串形式
      *
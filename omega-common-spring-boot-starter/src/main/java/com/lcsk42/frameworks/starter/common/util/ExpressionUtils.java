@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表达式解析工具类
@@ -16,6 +18,12 @@ import java.lang.reflect.Method;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ExpressionUtils {
 
+    /**
+     * 按 (方法, 表达式) 缓存已解析的表达式与参数名，表达式来自注解，数量有限
+     */
+    private static final Map<EvaluatorKey, ExpressionEvaluator> EVALUATOR_CACHE =
+            new ConcurrentHashMap<>();
+
     /**
      * 解析
      *
@@ -30,7 +38,9 @@ public class ExpressionUtils {
             if (StringUtils.isBlank(script)) {
                 return null;
             }
-            ExpressionEvaluator expressionEvaluator = new ExpressionEvaluator(script, method);
+            ExpressionEvaluator expressionEvaluator =
+                    EVALUATOR_CACHE.computeIfAbsent(new EvaluatorKey(method, script),
+                            key -> new ExpressionEvaluator(key.script(), key.method()));
             ExpressionInvokeContext invokeContext =
                     new ExpressionInvokeContext(method, args, target);
             return expressionEvaluator.apply(invokeContext);
@@ -40,4 +50,7 @@ public class ExpressionUtils {
             return null;
         }
     }
+
+    private record EvaluatorKey(Method method, String script) {
+    }
 }
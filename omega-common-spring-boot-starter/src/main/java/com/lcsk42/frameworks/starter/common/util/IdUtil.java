@@ -1,8 +1,11 @@
 package com.lcsk42.frameworks.starter.common.util;
 
+import com.lcsk42.frameworks.starter.common.snowflake.AtomicSnowflake;
+import com.lcsk42.frameworks.starter.common.snowflake.LeasedSnowflake;
 import com.lcsk42.frameworks.starter.common.snowflake.Snowflake;
 import com.lcsk42.frameworks.starter.core.Singleton;
 import com.lcsk42.frameworks.starter.core.constant.StringConstant;
+import com.lcsk42.frameworks.starter.core.util.UuidV7;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -37,6 +40,33 @@ public final class IdUtil {
         return UUID.randomUUID().toString().replace(StringConstant.DASHED, StringUtils.EMPTY);
     }
 
+    /**
+     * 生成按时间排序的带连字符 UUIDv7。 示例: "01890a5d-ac96-774b-bcce-b302099a8057" 同一进程内严格递增，适合作为数据库主键；随机部分不可用作安全令牌。
+     *
+     * @return 带连字符的 UUIDv7 字符串
+     */
+    public static String generateUuidV7() {
+        return UuidV7.randomString();
+    }
+
+    /**
+     * 生成按时间排序的不带连字符 UUIDv7。 示例: "01890a5dac96774bbcceb302099a8057"
+     *
+     * @return 32 位十六进制 UUIDv7 字符串
+     */
+    public static String generateCompactUuidV7() {
+        return UuidV7.randomHex();
+    }
+
+    /**
+     * 生成按时间排序的 Crockford Base32 编码 UUIDv7，字典序与生成顺序一致。 示例: "01h45ntb4pexxvsk5k0g4sm02q"
+     *
+     * @return 26 位 Base32 UUIDv7 字符串
+     */
+    public static String generateBase32UuidV7() {
+        return UuidV7.randomBase32();
+    }
+
     /**
      * 基于主机信息生成 worker ID，若主机信息不可用则生成随机值。 尽可能使用主机名和 MAC 地址创建确定性 ID。 若无法获取主机信息，则在指定比特范围内回退为随机值。
      *
@@ -84,17 +114,41 @@ public final class IdUtil {
     }
 
     /**
-     * 获取或创建 Snowflake ID 生成器的单例实例。 若单例注册表中不存在实例，则创建新实例并注册。
+     * 获取或创建 Snowflake ID 生成器的单例实例。 若单例注册表中不存在实例，则创建无锁的 {@link AtomicSnowflake} 并注册。
      *
      * @return Snowflake ID 生成器的单例实例
      */
     public static Snowflake getSnowflake() {
         Snowflake snowflake = Singleton.get(Snowflake.class.getName());
-        if (Objects.isNull(snowflake)) {
-            snowflake = new Snowflake();
-            Singleton.put(snowflake);
+        if (Objects.nonNull(snowflake)) {
+            return snowflake;
+        }
+        // 与 registerSnowflake 互斥，避免默认实例与租约实例并发注册
+        synchronized (IdUtil.class) {
+            snowflake = Singleton.get(Snowflake.class.getName());
+            if (Objects.isNull(snowflake)) {
+                snowflake = new AtomicSnowflake();
+                // 子类实例需显式按 Snowflake 类名注册，否则后续按该名称查找会落空
+                Singleton.put(Snowflake.class.getName(), snowflake);
+            }
+            return snowflake;
+        }
+    }
+
+    /**
+     * 注册由外部协调（如 Redis 租约）分配 ID 的 Snowflake ID 生成器，替换 {@link #getSnowflake()} 返回的实例。
+     * 若基于主机信息生成的默认实例已被获取，其他组件可能仍持有该实例并与租用的 ID 冲突，此时拒绝注册；已注册的租约实例可以被替换（如重新租用）。
+     *
+     * @param snowflake 基于租约的 Snowflake ID 生成器
+     * @throws IllegalStateException 如果默认实例已被获取
+     */
+    public static synchronized void registerSnowflake(LeasedSnowflake snowflake) {
+        Snowflake existing = Singleton.get(Snowflake.class.getName());
+        if (Objects.nonNull(existing) && !(existing instanceof LeasedSnowflake)) {
+            throw new IllegalStateException(
+                    "A host-derived Snowflake was obtained before the worker id lease was acquired");
         }
-        return snowflake;
+        Singleton.put(Snowflake.class.getName(), snowflake);
     }
 
     /**
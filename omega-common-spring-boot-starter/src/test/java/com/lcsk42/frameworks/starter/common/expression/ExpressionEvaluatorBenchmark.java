@@ -0,0 +1,98 @@
+package com.lcsk42.frameworks.starter.common.expression;
+
+import com.lcsk42.frameworks.starter.common.util.ExpressionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比原有求值方式与按 (方法, 表达式) 缓存编译后表达式时，限流、幂等键的求值耗时
+ * <p>
+ * baseline 复现缓存引入前的实现：默认（不编译）解析器每次调用重新解析表达式、解析参数名，并将参数逐个写入
+ * {@link StandardEvaluationContext}。通过 {@link #main(String[])} 运行。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionEvaluatorBenchmark {
+
+    private static final String SCRIPT = "#userId + ':' + #order.id";
+
+    private static final ExpressionParser LEGACY_PARSER = new SpelExpressionParser();
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER =
+            new DefaultParameterNameDiscoverer();
+
+    private Method method;
+
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = ExpressionEvaluatorBenchmark.class.getMethod("submit", Order.class, String.class);
+        args = new Object[] {new Order(42L), "u1001"};
+    }
+
+    @Benchmark
+    public Object baseline() {
+        String[] parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+        EvaluationContext context =
+                new StandardEvaluationContext(new ExpressionInvokeContext(method, args, this));
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return LEGACY_PARSER.parseExpression(SCRIPT).getValue(context);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return ExpressionUtils.eval(SCRIPT, this, method, args);
+    }
+
+    public void submit(Order order, String userId) {
+        // 仅用于提供方法签名
+    }
+
+    public static class Order {
+
+        private final Long id;
+
+        public Order(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ExpressionEvaluatorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
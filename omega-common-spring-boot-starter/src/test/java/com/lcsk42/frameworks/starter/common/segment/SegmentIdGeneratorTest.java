@@ -0,0 +1,171 @@
+package com.lcsk42.frameworks.starter.common.segment;
+
+import com.lcsk42.frameworks.starter.common.config.SegmentIdProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentIdGeneratorTest {
+
+    private static final String BIZ_TAG = "order";
+
+    private final ExecutorService preloadExecutor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "segment-preload-test"));
+
+    @AfterEach
+    void tearDown() {
+        preloadExecutor.shutdownNow();
+    }
+
+    @Test
+    void testSwitchesToPreloadedSegment() {
+        RecordingFetcher fetcher = new RecordingFetcher();
+        SegmentIdGenerator generator = new SegmentIdGenerator(BIZ_TAG, fetcher,
+                properties(10, 10, 10, 0.5D, Duration.ofHours(1)), preloadExecutor);
+
+        for (long expected = 1; expected <= 30; expected++) {
+            assertEquals(expected, generator.nextId());
+        }
+        // 首个号段同步获取，之后的号段均由预加载线程获取
+        assertEquals(Thread.currentThread().getName(), fetcher.threads.get(0));
+        assertTrue(fetcher.threads.size() >= 3);
+        fetcher.threads.stream().skip(1)
+                .forEach(each -> assertEquals("segment-preload-test", each));
+    }
+
+    @Test
+    void testPreloadFailureFallsBackToSynchronousFetch() {
+        RecordingFetcher fetcher = new RecordingFetcher();
+        fetcher.failOnCall = 2;
+        SegmentIdGenerator generator = new SegmentIdGenerator(BIZ_TAG, fetcher,
+                properties(10, 10, 10, 0.5D, Duration.ofHours(1)), preloadExecutor);
+
+        for (long expected = 1; expected <= 20; expected++) {
+            assertEquals(expected, generator.nextId());
+        }
+        // 第二次调用为预加载并失败，随后在调用线程同步获取
+        assertEquals("segment-preload-test", fetcher.threads.get(1));
+        assertEquals(Thread.currentThread().getName(), fetcher.threads.get(2));
+    }
+
+    @Test
+    void testStepDoublesWhenSegmentsAreConsumedQuickly() {
+        RecordingFetcher fetcher = new RecordingFetcher();
+        SegmentIdGenerator generator = new SegmentIdGenerator(BIZ_TAG, fetcher,
+                properties(10, 10, 40, 0.0D, Duration.ofHours(1)), Runnable::run);
+
+        long previous = 0L;
+        for (int i = 0; i < 200; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(List.of(10, 20, 40, 40), fetcher.steps.subList(0, 4));
+    }
+
+    @Test
+    void testStepHalvesWhenSegmentsAreConsumedSlowly() {
+        RecordingFetcher fetcher = new RecordingFetcher();
+        SegmentIdGenerator generator = new SegmentIdGenerator(BIZ_TAG, fetcher,
+                properties(40, 10, 40, 0.0D, Duration.ofNanos(1)), Runnable::run);
+
+        for (int i = 0; i < 100; i++) {
+            generator.nextId();
+        }
+        assertEquals(List.of(40, 20, 10, 10), fetcher.steps.subList(0, 4));
+    }
+
+    @Test
+    void testIdsUniqueAndIncreasingPerThreadUnderConcurrency() throws Exception {
+        RecordingFetcher fetcher = new RecordingFetcher();
+        fetcher.delayMillis = 1L;
+        SegmentIdGenerator generator = new SegmentIdGenerator(BIZ_TAG, fetcher,
+                properties(100, 100, 1000, 0.1D, Duration.ofHours(1)), preloadExecutor);
+        int threads = 8;
+        int idsPerThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long previous = 0L;
+                    boolean increasing = true;
+                    for (int j = 0; j < idsPerThread; j++) {
+                        long id = generator.nextId();
+                        increasing &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    private SegmentIdProperties properties(int initialStep, int minStep, int maxStep,
+            double preloadRatio, Duration targetDuration) {
+        SegmentIdProperties properties = new SegmentIdProperties();
+        properties.setInitialStep(initialStep);
+        properties.setMinStep(minStep);
+        properties.setMaxStep(maxStep);
+        properties.setPreloadRatio(preloadRatio);
+        properties.setTargetDuration(targetDuration);
+        return properties;
+    }
+
+    /**
+     * 内存号段获取实现，记录每次调用的步长与线程
+     */
+    private static final class RecordingFetcher implements SegmentFetcher {
+
+        private final List<Integer> steps = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private long max;
+        private int failOnCall;
+        private long delayMillis;
+
+        @Override
+        public synchronized long fetch(String bizTag, int step) {
+            threads.add(Thread.currentThread().getName());
+            if (calls.incrementAndGet() == failOnCall) {
+                throw new IllegalStateException("Simulated fetch failure");
+            }
+            if (delayMillis > 0L) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delayMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            steps.add(step);
+            max += step;
+            return max;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AtomicSnowflakeTest {
+
+    private static final long START_TIMESTAMP = 1577808000000L;
+
+    private static final long NOW = START_TIMESTAMP + 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    @Test
+    void testNextIdUniqueAndMonotonicUnderConcurrency() throws Exception {
+        AtomicSnowflake snowflake = new AtomicSnowflake(1L, 1L);
+        int threads = 8;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    boolean monotonic = true;
+                    for (int j = 0; j < idsPerThread; j++) {
+                        long id = snowflake.nextId();
+                        monotonic &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return monotonic;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    void testSequenceOverflowCarriesIntoNextMillisecond() {
+        AtomicSnowflake snowflake = manualClockSnowflake(10L);
+        long previous = snowflake.nextId();
+        assertEquals(NOW, snowflake.parseId(previous).getTimestamp());
+        for (int i = 0; i < 4096; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        // 同一毫秒内最多 4095 个序列号，之后进位到下一毫秒并从 0 继续
+        SnowflakeIdInfo last = snowflake.parseId(previous);
+        assertEquals(NOW + 1, last.getTimestamp());
+        assertTrue(last.getSequence() < 4);
+        assertEquals(1L, last.getWorkerId());
+        assertEquals(1L, last.getDatacenterId());
+    }
+
+    @Test
+    void testBorrowIsCappedByMaxBorrowMillis() throws Exception {
+        AtomicSnowflake snowflake = manualClockSnowflake(0L);
+        // 随机起始序列号为 1 或 2，再发 4093 个后当前毫秒剩余不足 10 个
+        snowflake.nextIds(4093);
+        CompletableFuture<long[]> pending =
+                CompletableFuture.supplyAsync(() -> snowflake.nextIds(10));
+        try {
+            assertThrows(TimeoutException.class,
+                    () -> pending.get(100, TimeUnit.MILLISECONDS));
+            assertFalse(pending.isDone());
+            clock.incrementAndGet();
+            long[] ids = pending.get(5, TimeUnit.SECONDS);
+            for (long id : ids) {
+                assertEquals(NOW + 1, snowflake.parseId(id).getTimestamp());
+            }
+        } finally {
+            clock.addAndGet(1_000L);
+        }
+    }
+
+    @Test
+    void testSmallClockRegressionKeepsIncreasing() {
+        AtomicSnowflake snowflake = manualClockSnowflake(10L);
+        long before = snowflake.nextId();
+        clock.addAndGet(-10L);
+        long after = snowflake.nextId();
+        assertTrue(after > before);
+        assertEquals(NOW, snowflake.parseId(after).getTimestamp());
+    }
+
+    @Test
+    void testClockRegressionBeyondMaxBorrowThrows() {
+        AtomicSnowflake snowflake = manualClockSnowflake(10L);
+        snowflake.nextId();
+        clock.addAndGet(-11L);
+        assertThrows(IllegalStateException.class, snowflake::nextId);
+    }
+
+    @Test
+    void testNextIdsReturnsIncreasingContiguousRanges() {
+        AtomicSnowflake snowflake = manualClockSnowflake(10L);
+        long[] ids = snowflake.nextIds(10_000);
+        assertEquals(10_000, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+            SnowflakeIdInfo previous = snowflake.parseId(ids[i - 1]);
+            SnowflakeIdInfo current = snowflake.parseId(ids[i]);
+            if (previous.getTimestamp() == current.getTimestamp()) {
+                assertEquals(previous.getSequence() + 1, current.getSequence());
+            } else {
+                assertEquals(previous.getTimestamp() + 1, current.getTimestamp());
+            }
+        }
+        // 10000 个 ID 需要借用后续 2 毫秒
+        assertEquals(NOW + 2, snowflake.parseId(ids[ids.length - 1]).getTimestamp());
+        assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+        assertEquals(0, snowflake.nextIds(0).length);
+    }
+
+    private AtomicSnowflake manualClockSnowflake(long maxBorrowMillis) {
+        return new AtomicSnowflake(1L, 1L, maxBorrowMillis) {
+            @Override
+            protected long timeGen() {
+                return clock.get();
+            }
+        };
+    }
+}
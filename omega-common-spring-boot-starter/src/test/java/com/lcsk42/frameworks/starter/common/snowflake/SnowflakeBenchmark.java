@@ -0,0 +1,56 @@
+package com.lcsk42.frameworks.starter.common.snowflake;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比 {@link Snowflake}（synchronized）与 {@link AtomicSnowflake}（CAS）在 1~64 线程下的吞吐
+ * <p>
+ * 注意单节点理论上限为每毫秒 4096 个 ID，两者在高并发下都会触及该上限，差异主要体现在上限之下的争用开销与尾延迟。 通过 {@link #main(String[])}
+ * 运行。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeBenchmark {
+
+    private final Snowflake synchronizedSnowflake = new Snowflake(1L, 1L);
+
+    private final AtomicSnowflake atomicSnowflake = new AtomicSnowflake(1L, 1L);
+
+    @Benchmark
+    public long synchronizedNextId() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long atomicNextId() {
+        return atomicSnowflake.nextId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 4, 16, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(SnowflakeBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+}
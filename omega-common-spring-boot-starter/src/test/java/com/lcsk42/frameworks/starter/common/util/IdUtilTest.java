@@ -1,5 +1,6 @@
 package com.lcsk42.frameworks.starter.common.util;
 
+import com.lcsk42.frameworks.starter.common.snowflake.AtomicSnowflake;
 import com.lcsk42.frameworks.starter.common.snowflake.Snowflake;
 import com.lcsk42.frameworks.starter.core.Singleton;
 import org.junit.jupiter.api.AfterEach;
@@ -15,6 +16,7 @@ import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
@@ -153,7 +155,8 @@ class IdUtilTest {
 
         Snowflake result = IdUtil.getSnowflake();
         assertNotNull(result);
-        mockedSingleton.verify(() -> Singleton.put(result), times(1));
+        assertInstanceOf(AtomicSnowflake.class, result);
+        mockedSingleton.verify(() -> Singleton.put(Snowflake.class.getName(), result), times(1));
     }
 
     @Test
@@ -164,6 +167,7 @@ class IdUtilTest {
         Snowflake result = IdUtil.getSnowflake();
         assertEquals(mockSnowflake, result);
         mockedSingleton.verify(() -> Singleton.put(any()), never());
+        mockedSingleton.verify(() -> Singleton.put(any(), any()), never());
     }
 
     @Test
@@ -1,10 +1,9 @@
 package com.lcsk42.frameworks.starter.core.constant;
 
+import com.lcsk42.frameworks.starter.core.util.UuidV7;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.util.UUID;
-
 /**
  * 自定义 Http 请求头常量
  */
@@ -20,8 +19,11 @@ public final class HttpHeaderConstant {
      */
     public static final String REQUEST_ID = "Request-Id";
 
+    /**
+     * 生成请求 ID，使用按时间排序的 UUIDv7，便于按请求 ID 检索日志时定位时间范围
+     */
     public static String getRequestId() {
-        return UUID.randomUUID().toString();
+        return UuidV7.randomString();
     }
 
     /**
@@ -2,6 +2,7 @@ package com.lcsk42.frameworks.starter.core.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
@@ -13,6 +14,17 @@ public final class CacheUtil {
 
     private static final String SPLICING_OPERATOR = ":";
 
+    private static final String VERSION_MARKER = "v";
+
+    private static final String HASH_TAG_START = "{";
+
+    private static final String HASH_TAG_END = "}";
+
+    /**
+     * 空值占位符，加载结果为空时写入缓存，用于防止缓存穿透
+     */
+    public static final String NULL_VALUE = "\u0000";
+
     /**
      * 通过使用下划线连接提供的键来构建缓存键。 如果任何键为 null 或空，则抛出 RuntimeException。
      *
@@ -25,6 +37,35 @@ public final class CacheUtil {
                 .collect(Collectors.joining(SPLICING_OPERATOR));
     }
 
+    /**
+     * 构建携带命名空间版本的缓存键，格式为 {@code namespace:v{version}:keys}。 命名空间版本递增后旧版本的键不再被访问，随过期时间自然淘汰。
+     *
+     * @param namespace 命名空间
+     * @param version 命名空间当前版本
+     * @param keys 要连接成缓存键的键
+     * @return 构造的缓存键
+     */
+    public static String buildVersionedKey(String namespace, long version, String... keys) {
+        return buildKey(ArrayUtils.addAll(new String[] {namespace, VERSION_MARKER + version},
+                keys));
+    }
+
+    /**
+     * 构建携带 Redis Cluster 哈希标签的缓存键，格式为 {@code {tag}:keys}。 集群只对花括号内的部分计算槽位，
+     * 同一标签的键落在同一槽位，可以在一条多键命令或 Lua 脚本中原子操作。
+     *
+     * @param tag 哈希标签，通常为聚合根标识
+     * @param keys 要连接成缓存键的键
+     * @return 构造的缓存键
+     */
+    public static String buildHashTagKey(String tag, String... keys) {
+        if (StringUtils.isBlank(tag)) {
+            throw new IllegalArgumentException("Hash tag must not be blank");
+        }
+        return buildKey(ArrayUtils.addAll(new String[] {HASH_TAG_START + tag + HASH_TAG_END},
+                keys));
+    }
+
     /**
      * 检查给定的缓存值是否为 null 或空字符串。
      *
@@ -36,4 +77,14 @@ public final class CacheUtil {
                 || (cacheVal instanceof String cacheValString
                         && StringUtils.isBlank(cacheValString));
     }
+
+    /**
+     * 检查给定的缓存值是否为空值占位符。
+     *
+     * @param cacheVal 要检查的值
+     * @return 如果值为空值占位符则为 true，否则为 false
+     */
+    public static boolean isNullValue(Object cacheVal) {
+        return NULL_VALUE.equals(cacheVal);
+    }
 }
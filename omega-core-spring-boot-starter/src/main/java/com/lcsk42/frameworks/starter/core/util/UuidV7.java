@@ -0,0 +1,184 @@
+package com.lcsk42.frameworks.starter.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按时间排序的 UUIDv7（RFC 9562）生成器
+ * <p>
+ * 高 48 位为 Unix 毫秒时间戳，随后 12 位（rand_a）用作同一毫秒内的单调计数器，每毫秒以随机值起始；其余 62 位随机。
+ * 计数器溢出或时钟回拨时时间戳借用下一毫秒，因此同一进程内生成的 UUID 严格递增，作为主键时按插入顺序写入 B+ 树索引末端。
+ * 随机数来自 {@link ThreadLocalRandom}，不会像 {@link UUID#randomUUID()} 那样争用 SecureRandom，但不可预测性较弱，
+ * 不应用作安全令牌。
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+
+    /**
+     * 每毫秒计数器的随机起始值不超过该值，为同一毫秒内的递增保留至少一半空间
+     */
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final long VERSION = 0x7000L;
+
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Crockford Base32 字母表，按 ASCII 顺序排列，编码结果的字典序与 UUID 数值顺序一致
+     */
+    private static final char[] BASE32_DIGITS = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+
+    private static final int[] BASE32_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE32_VALUES, -1);
+        for (int i = 0; i < BASE32_DIGITS.length; i++) {
+            BASE32_VALUES[BASE32_DIGITS[i]] = i;
+            BASE32_VALUES[Character.toUpperCase(BASE32_DIGITS[i])] = i;
+        }
+    }
+
+    /**
+     * 最近一次生成的 [毫秒时间戳][12 位计数器]
+     */
+    private static final AtomicLong STATE = new AtomicLong();
+
+    /**
+     * 生成 UUIDv7
+     */
+    public static UUID randomUuid() {
+        long state = nextState();
+        long msb = (state >>> COUNTER_BITS) << 16 | VERSION | (state & COUNTER_MASK);
+        long lsb = ThreadLocalRandom.current().nextLong() & RAND_B_MASK | VARIANT;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 生成带连字符的 UUIDv7 字符串，如 "01890a5d-ac96-774b-bcce-b302099a8057"
+     */
+    public static String randomString() {
+        return randomUuid().toString();
+    }
+
+    /**
+     * 生成不带连字符的 32 位十六进制 UUIDv7 字符串
+     */
+    public static String randomHex() {
+        return toHex(randomUuid());
+    }
+
+    /**
+     * 生成 26 位 Crockford Base32 编码的 UUIDv7 字符串
+     */
+    public static String randomBase32() {
+        return toBase32(randomUuid());
+    }
+
+    /**
+     * 将 UUID 编码为不带连字符的 32 位小写十六进制字符串
+     */
+    public static String toHex(UUID uuid) {
+        char[] chars = new char[32];
+        writeHex(chars, 0, uuid.getMostSignificantBits());
+        writeHex(chars, 16, uuid.getLeastSignificantBits());
+        return new String(chars);
+    }
+
+    /**
+     * 将 UUID 编码为 26 位小写 Crockford Base32 字符串，首字符仅使用 3 位
+     */
+    public static String toBase32(UUID uuid) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        char[] chars = new char[26];
+        // 最后 12 个字符覆盖 lsb 的低 60 位
+        for (int i = 25; i >= 14; i--) {
+            chars[i] = BASE32_DIGITS[(int) (lsb & 0x1F)];
+            lsb >>>= 5;
+        }
+        // lsb 剩余 4 位与 msb 低 1 位组成一个字符
+        chars[13] = BASE32_DIGITS[(int) ((msb & 0x1) << 4 | lsb)];
+        msb >>>= 1;
+        for (int i = 12; i >= 0; i--) {
+            chars[i] = BASE32_DIGITS[(int) (msb & 0x1F)];
+            msb >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 解析 {@link #toBase32(UUID)} 生成的字符串，不区分大小写
+     *
+     * @throws IllegalArgumentException 如果字符串不是合法的 26 位 Crockford Base32 编码
+     */
+    public static UUID fromBase32(String value) {
+        if (value == null || value.length() != 26 || base32Value(value, 0) > 0x7) {
+            throw new IllegalArgumentException("Invalid base32 uuid: " + value);
+        }
+        long high = 0L;
+        for (int i = 0; i <= 12; i++) {
+            high = high << 5 | base32Value(value, i);
+        }
+        int middle = base32Value(value, 13);
+        long msb = high << 1 | (middle >>> 4);
+        long lsb = (long) (middle & 0xF) << 60;
+        for (int i = 14; i <= 25; i++) {
+            lsb |= (long) base32Value(value, i) << (5 * (25 - i));
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 提取 UUIDv7 中的 Unix 毫秒时间戳
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static int base32Value(String value, int index) {
+        char c = value.charAt(index);
+        int digit = c < BASE32_VALUES.length ? BASE32_VALUES[c] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid base32 uuid: " + value);
+        }
+        return digit;
+    }
+
+    private static void writeHex(char[] chars, int offset, long value) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * 新的毫秒以随机计数器起始，否则在上一次的基础上加一，计数器溢出时进位到时间戳
+     */
+    private static long nextState() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            long previous = STATE.get();
+            long next = now > previous >>> COUNTER_BITS
+                    ? now << COUNTER_BITS
+                            | ThreadLocalRandom.current().nextInt(COUNTER_SEED_BOUND)
+                    : previous + 1;
+            if (STATE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
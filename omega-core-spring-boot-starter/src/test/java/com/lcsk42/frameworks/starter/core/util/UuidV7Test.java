@@ -0,0 +1,84 @@
+package com.lcsk42.frameworks.starter.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void testVersionAndVariant() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UuidV7.randomUuid();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+    }
+
+    @Test
+    void testTimestampExtraction() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7.timestampMillis(uuid);
+        // 计数器溢出时最多借用少量未来毫秒
+        assertTrue(timestamp >= before && timestamp <= after + 10,
+                () -> timestamp + " not in [" + before + ", " + after + "]");
+    }
+
+    @Test
+    void testMonotonicWithinSameMillisecond() {
+        int count = 10_000;
+        UUID[] uuids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            uuids[i] = UuidV7.randomUuid();
+        }
+        int sameMillisecond = 0;
+        for (int i = 1; i < count; i++) {
+            // 时间戳与计数器位于高 64 位，且最高位为 0，可直接按有符号数比较
+            assertTrue(uuids[i].getMostSignificantBits() > uuids[i - 1].getMostSignificantBits());
+            assertTrue(UuidV7.toHex(uuids[i]).compareTo(UuidV7.toHex(uuids[i - 1])) > 0);
+            assertTrue(UuidV7.toBase32(uuids[i]).compareTo(UuidV7.toBase32(uuids[i - 1])) > 0);
+            if (UuidV7.timestampMillis(uuids[i]) == UuidV7.timestampMillis(uuids[i - 1])) {
+                sameMillisecond++;
+            }
+        }
+        assertTrue(sameMillisecond > 0);
+    }
+
+    @Test
+    void testHexMatchesStandardFormat() {
+        UUID uuid = UuidV7.randomUuid();
+        assertEquals(uuid.toString().replace("-", ""), UuidV7.toHex(uuid));
+    }
+
+    @Test
+    void testBase32RoundTrip() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UuidV7.randomUuid();
+            String encoded = UuidV7.toBase32(uuid);
+            assertEquals(26, encoded.length());
+            assertEquals(uuid, UuidV7.fromBase32(encoded));
+            assertEquals(uuid, UuidV7.fromBase32(encoded.toUpperCase()));
+        }
+        UUID max = new UUID(-1L, -1L);
+        assertEquals("7zzzzzzzzzzzzzzzzzzzzzzzzz", UuidV7.toBase32(max));
+        assertEquals(max, UuidV7.fromBase32(UuidV7.toBase32(max)));
+        UUID min = new UUID(0L, 0L);
+        assertEquals(min, UuidV7.fromBase32(UuidV7.toBase32(min)));
+    }
+
+    @Test
+    void testFromBase32RejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.fromBase32("0123"));
+        assertThrows(IllegalArgumentException.class,
+                () -> UuidV7.fromBase32("8zzzzzzzzzzzzzzzzzzzzzzzzz"));
+        assertThrows(IllegalArgumentException.class,
+                () -> UuidV7.fromBase32("0uzzzzzzzzzzzzzzzzzzzzzzzz"));
+    }
+}
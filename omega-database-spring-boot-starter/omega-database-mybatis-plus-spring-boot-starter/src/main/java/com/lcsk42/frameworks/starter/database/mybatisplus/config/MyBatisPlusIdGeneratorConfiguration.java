@@ -1,8 +1,8 @@
 package com.lcsk42.frameworks.starter.database.mybatisplus.config;
 
-import com.baomidou.mybatisplus.core.incrementer.DefaultIdentifierGenerator;
 import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
-import com.lcsk42.frameworks.starter.common.util.net.NetworkUtil;
+import com.lcsk42.frameworks.starter.common.util.IdUtil;
+import com.lcsk42.frameworks.starter.database.mybatisplus.generator.OmegaIdentifierGenerator;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -19,7 +19,7 @@ import org.springframework.core.ResolvableType;
 public class MyBatisPlusIdGeneratorConfiguration {
 
     /**
-     * 自定义 ID 生成器-默认（雪花算法，使用网卡信息绑定雪花生成器，防止集群雪花 ID 重复）
+     * 自定义 ID 生成器-默认（雪花算法，与 {@link IdUtil#getSnowflake()} 共用同一个生成器，避免进程内两个相同节点 ID 的生成器产生重复 ID）
      */
     @ConditionalOnMissingBean(IdentifierGenerator.class)
     @ConditionalOnProperty(name = MybatisPlusProperties.ID_GENERATOR_TYPE, havingValue = "default",
@@ -31,8 +31,9 @@ public class MyBatisPlusIdGeneratorConfiguration {
         }
 
         @Bean
-        public IdentifierGenerator identifierGenerator() {
-            return new DefaultIdentifierGenerator(NetworkUtil.getLocalhost());
+        public IdentifierGenerator identifierGenerator(MybatisPlusProperties properties) {
+            return new OmegaIdentifierGenerator(IdUtil::getSnowflake,
+                    properties.getIdGenerator().getPrefetchSize());
         }
     }
 
@@ -2,6 +2,7 @@ package com.lcsk42.frameworks.starter.idempotent.config;
 
 import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
 import com.lcsk42.frameworks.starter.cache.redisson.config.RedissonAutoConfiguration;
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
 import com.lcsk42.frameworks.starter.idempotent.aop.IdempotentAspect;
 import com.lcsk42.frameworks.starter.idempotent.generator.DefaultIdempotentNameGenerator;
 import com.lcsk42.frameworks.starter.idempotent.generator.IdempotentNameGenerator;
@@ -85,8 +86,8 @@ public class IdempotentAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public IdempotentSpELByMQExecuteHandler idempotentSpELByMQExecuteHandler(
-            DistributedCache distributedCache) {
-        return new IdempotentSpELByMQExecuteHandler(distributedCache);
+            DistributedCache distributedCache, LuaScriptRegistry luaScriptRegistry) {
+        return new IdempotentSpELByMQExecuteHandler(distributedCache, luaScriptRegistry);
     }
 
     @PostConstruct
@@ -1,6 +1,8 @@
 package com.lcsk42.frameworks.starter.idempotent.impl.spel;
 
 import com.lcsk42.frameworks.starter.cache.redisson.DistributedCache;
+import com.lcsk42.frameworks.starter.cache.redisson.script.LuaScriptRegistry;
+import com.lcsk42.frameworks.starter.cache.redisson.script.RegisteredScript;
 import com.lcsk42.frameworks.starter.idempotent.annotation.Idempotent;
 import com.lcsk42.frameworks.starter.idempotent.aop.IdempotentAspect;
 import com.lcsk42.frameworks.starter.idempotent.enums.IdempotentMQConsumeStatusEnum;
@@ -10,13 +12,8 @@ import com.lcsk42.frameworks.starter.idempotent.model.IdempotentContext;
 import com.lcsk42.frameworks.starter.idempotent.model.IdempotentParamWrapper;
 import com.lcsk42.frameworks.starter.idempotent.util.KeyUtil;
 import com.lcsk42.frameworks.starter.idempotent.util.LogUtil;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.scripting.support.ResourceScriptSource;
 
 import java.time.Duration;
 import java.util.List;
@@ -26,7 +23,6 @@ import java.util.concurrent.TimeUnit;
 /**
  * 基于 SpEL 方法验证请求幂等性，适用于 MQ 场景
  */
-@RequiredArgsConstructor
 public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentExecuteHandler
         implements IdempotentSpELService {
 
@@ -39,6 +35,18 @@ public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentEx
 
     private final DistributedCache distributedCache;
 
+    private final LuaScriptRegistry luaScriptRegistry;
+
+    private final RegisteredScript<String> setIfAbsentAndGetScript;
+
+    public IdempotentSpELByMQExecuteHandler(DistributedCache distributedCache,
+            LuaScriptRegistry luaScriptRegistry) {
+        this.distributedCache = distributedCache;
+        this.luaScriptRegistry = luaScriptRegistry;
+        this.setIfAbsentAndGetScript =
+                luaScriptRegistry.register(LUA_SCRIPT_SET_IF_ABSENT_AND_GET_PATH, String.class);
+    }
+
     @SneakyThrows
     @Override
     protected IdempotentParamWrapper buildWrapper(ProceedingJoinPoint joinPoint) {
@@ -64,14 +72,9 @@ public final class IdempotentSpELByMQExecuteHandler extends AbstractIdempotentEx
     }
 
     public String setIfAbsentAndGet(String key, String value, long timeout, TimeUnit timeUnit) {
-        DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
-        ClassPathResource resource = new ClassPathResource(LUA_SCRIPT_SET_IF_ABSENT_AND_GET_PATH);
-        redisScript.setScriptSource(new ResourceScriptSource(resource));
-        redisScript.setResultType(String.class);
-
         long millis = timeUnit.toMillis(timeout);
-        return ((StringRedisTemplate) distributedCache.getInstance()).execute(redisScript,
-                List.of(key), value, String.valueOf(millis));
+        return luaScriptRegistry.execute(setIfAbsentAndGetScript, List.of(key), value,
+                String.valueOf(millis));
     }
 
     @Override
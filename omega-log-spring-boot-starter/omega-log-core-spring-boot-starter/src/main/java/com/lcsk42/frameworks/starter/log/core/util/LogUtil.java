@@ -1,7 +1,6 @@
 package com.lcsk42.frameworks.starter.log.core.util;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.lcsk42.frameworks.starter.common.util.IdUtil;
 import com.lcsk42.frameworks.starter.common.util.net.NetworkUtil;
 import com.lcsk42.frameworks.starter.core.constant.HttpHeaderConstant;
 import com.lcsk42.frameworks.starter.core.constant.StringConstant;
@@ -496,6 +495,6 @@ public final class LogUtil {
             return null;
         }
         String requestId = request.getHeader(HttpHeaderConstant.REQUEST_ID);
-        return StringUtils.defaultIfBlank(requestId, IdUtil.generateStandardUuid());
+        return StringUtils.defaultIfBlank(requestId, HttpHeaderConstant.getRequestId());
     }
 }